@@ -1,5 +1,6 @@
 package com.placement.platform.auth;
 
+import com.placement.platform.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -7,6 +8,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -15,20 +18,26 @@ public class AuthenticationController {
     private final AuthenticationService service;
 
     @PostMapping("/register")
-    public ResponseEntity<AuthenticationResponse> register(
+    public CompletableFuture<ResponseEntity<AuthenticationResponse>> register(
             @RequestBody RegisterRequest request) {
-        return ResponseEntity.ok(service.register(request));
+        return service.register(request).thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthenticationResponse> authenticate(
+    public CompletableFuture<ResponseEntity<AuthenticationResponse>> authenticate(
             @RequestBody AuthenticationRequest request) {
-        return ResponseEntity.ok(service.authenticate(request));
+        return service.authenticate(request).thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/google")
-    public ResponseEntity<AuthenticationResponse> googleLogin(
+    public CompletableFuture<ResponseEntity<AuthenticationResponse>> googleLogin(
             @RequestBody GoogleLoginRequest request) {
-        return ResponseEntity.ok(service.loginWithGoogle(request.getIdToken()));
+        return service.loginWithGoogle(request.getIdToken()).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutEverywhere(AuthenticatedUser user) {
+        service.logoutEverywhere(user.id());
+        return ResponseEntity.noContent().build();
     }
 }
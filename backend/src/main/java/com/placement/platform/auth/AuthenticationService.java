@@ -2,18 +2,20 @@ package com.placement.platform.auth;
 
 import com.placement.platform.domain.Role;
 import com.placement.platform.domain.User;
+import com.placement.platform.event.StudentRegisteredEvent;
 import com.placement.platform.repository.UserRepository;
 import com.placement.platform.security.JwtService;
+import com.placement.platform.security.PasswordHashingExecutor;
+import com.placement.platform.security.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
-import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -23,74 +25,84 @@ public class AuthenticationService {
         private final PasswordEncoder passwordEncoder;
         private final JwtService jwtService;
         private final AuthenticationManager authenticationManager;
+        private final PasswordHashingExecutor passwordHashingExecutor;
+        private final GoogleTokenVerifier googleTokenVerifier;
+        private final TokenVersionRegistry tokenVersionRegistry;
+        private final ApplicationEventPublisher eventPublisher;
 
-        public AuthenticationResponse register(RegisterRequest request) {
-                var user = User.builder()
-                                .fullName(request.getFullName())
-                                .email(request.getEmail())
-                                .password(passwordEncoder.encode(request.getPassword()))
-                                .role(request.getRole() != null ? request.getRole() : Role.STUDENT)
-                                .build();
-                repository.save(user);
-                var jwtToken = jwtService.generateToken(user);
-                return AuthenticationResponse.builder()
-                                .token(jwtToken)
-                                .build();
+        public CompletableFuture<AuthenticationResponse> register(RegisterRequest request) {
+                return passwordHashingExecutor.submit(() -> passwordEncoder.encode(request.getPassword()))
+                                .thenApply(encodedPassword -> {
+                                        var user = User.builder()
+                                                        .fullName(request.getFullName())
+                                                        .email(request.getEmail())
+                                                        .password(encodedPassword)
+                                                        .role(request.getRole() != null ? request.getRole()
+                                                                        : Role.STUDENT)
+                                                        .build();
+                                        repository.save(user);
+                                        if (user.getRole() == Role.STUDENT) {
+                                                eventPublisher.publishEvent(new StudentRegisteredEvent(user.getId()));
+                                        }
+                                        var jwtToken = jwtService.generateToken(user);
+                                        return AuthenticationResponse.builder()
+                                                        .token(jwtToken)
+                                                        .build();
+                                });
         }
 
-        public AuthenticationResponse authenticate(AuthenticationRequest request) {
-                authenticationManager.authenticate(
-                                new UsernamePasswordAuthenticationToken(
-                                                request.getEmail(),
-                                                request.getPassword()));
-                var user = repository.findByEmail(request.getEmail())
-                                .orElseThrow();
-                var jwtToken = jwtService.generateToken(user);
-                return AuthenticationResponse.builder()
-                                .token(jwtToken)
-                                .build();
+        public CompletableFuture<AuthenticationResponse> authenticate(AuthenticationRequest request) {
+                return passwordHashingExecutor.submit(() -> {
+                        var authentication = authenticationManager.authenticate(
+                                        new UsernamePasswordAuthenticationToken(
+                                                        request.getEmail(),
+                                                        request.getPassword()));
+                        var user = (User) authentication.getPrincipal();
+                        var jwtToken = jwtService.generateToken(user);
+                        return AuthenticationResponse.builder()
+                                        .token(jwtToken)
+                                        .build();
+                });
         }
 
-        public AuthenticationResponse loginWithGoogle(String idTokenString) {
+        public CompletableFuture<AuthenticationResponse> loginWithGoogle(String idTokenString) {
+                GoogleIdToken.Payload payload;
                 try {
-                        com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier verifier = new com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier.Builder(
-                                        new com.google.api.client.http.javanet.NetHttpTransport(),
-                                        new com.google.api.client.json.gson.GsonFactory())
-                                        .setAudience(java.util.Collections.singletonList("YOUR_GOOGLE_CLIENT_ID"))
-                                        .build();
-
-                        com.google.api.client.googleapis.auth.oauth2.GoogleIdToken idToken = verifier
-                                        .verify(idTokenString);
-                        if (idToken != null) {
-                                com.google.api.client.googleapis.auth.oauth2.GoogleIdToken.Payload payload = idToken
-                                                .getPayload();
-                                String email = payload.getEmail();
-                                String name = (String) payload.get("name");
+                        payload = googleTokenVerifier.verify(idTokenString);
+                } catch (Exception e) {
+                        throw new RuntimeException("Google Login Failed: " + e.getMessage());
+                }
+                String email = payload.getEmail();
+                String name = (String) payload.get("name");
 
-                                // Check if user exists
-                                var user = repository.findByEmail(email).orElse(null);
-                                if (user == null) {
-                                        // Register new user
-                                        user = User.builder()
+                // Check if user exists
+                var existing = repository.findByEmail(email);
+                if (existing.isPresent()) {
+                        return CompletableFuture.completedFuture(tokenResponse(existing.get()));
+                }
+                // Register new user with a dummy password
+                return passwordHashingExecutor.submit(() -> passwordEncoder.encode("GOOGLE_AUTH_DEFAULT_PASSWORD"))
+                                .thenApply(encodedPassword -> {
+                                        var user = User.builder()
                                                         .fullName(name)
                                                         .email(email)
-                                                        .password(passwordEncoder
-                                                                        .encode("GOOGLE_AUTH_DEFAULT_PASSWORD")) // Dummy
-                                                                                                                 // password
+                                                        .password(encodedPassword)
                                                         .role(Role.STUDENT)
                                                         .build();
                                         repository.save(user);
-                                }
+                                        eventPublisher.publishEvent(new StudentRegisteredEvent(user.getId()));
+                                        return tokenResponse(user);
+                                });
+        }
 
-                                var jwtToken = jwtService.generateToken(user);
-                                return AuthenticationResponse.builder()
-                                                .token(jwtToken)
-                                                .build();
-                        } else {
-                                throw new RuntimeException("Invalid ID token.");
-                        }
-                } catch (Exception e) {
-                        throw new RuntimeException("Google Login Failed: " + e.getMessage());
-                }
+        // Every token issued to the user so far stops validating, on all devices
+        public void logoutEverywhere(UUID userId) {
+                tokenVersionRegistry.revoke(userId);
+        }
+
+        private AuthenticationResponse tokenResponse(User user) {
+                return AuthenticationResponse.builder()
+                                .token(jwtService.generateToken(user))
+                                .build();
         }
 }
@@ -0,0 +1,9 @@
+package com.placement.platform.auth;
+
+import java.io.IOException;
+
+// Where Google signing keys come from; swap in a local key server for tests.
+public interface GoogleSigningKeySource {
+
+    GoogleSigningKeys fetch() throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.placement.platform.auth;
+
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Map;
+
+// Google's current ID-token signing keys by key id, valid until expiresAt.
+public record GoogleSigningKeys(Map<String, PublicKey> keysById, Instant expiresAt) {
+
+    public GoogleSigningKeys {
+        keysById = Map.copyOf(keysById);
+    }
+}
@@ -0,0 +1,112 @@
+package com.placement.platform.auth;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.gson.GsonFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies Google ID tokens against an in-memory copy of Google's signing keys.
+ * Keys are looked up by the token's {@code kid}, so a known key needs no network
+ * hop; the key set is refreshed in the background shortly before it expires,
+ * and on demand (at most once per cooldown) when a token names an unknown key.
+ */
+@Slf4j
+@Component
+public class GoogleTokenVerifier {
+
+    private static final List<String> ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
+    private static final long CLOCK_SKEW_SECONDS = 300;
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+
+    private final GoogleSigningKeySource keySource;
+    private final List<String> audience;
+    private final Duration minRefreshInterval;
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "google-keys-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile GoogleSigningKeys keys;
+    private volatile Instant lastRefresh = Instant.EPOCH;
+    private ScheduledFuture<?> nextRefresh;
+
+    public GoogleTokenVerifier(GoogleSigningKeySource keySource,
+            @Value("${application.security.google.client-id}") String clientId,
+            @Value("${application.security.google.min-refresh-seconds:30}") long minRefreshSeconds) {
+        this.keySource = keySource;
+        this.audience = List.of(clientId);
+        this.minRefreshInterval = Duration.ofSeconds(minRefreshSeconds);
+    }
+
+    public GoogleIdToken.Payload verify(String idTokenString) throws IOException, GeneralSecurityException {
+        GoogleIdToken idToken = GoogleIdToken.parse(GsonFactory.getDefaultInstance(), idTokenString);
+        PublicKey key = signingKey(idToken.getHeader().getKeyId());
+        if (key == null || !idToken.verifySignature(key)) {
+            throw new GeneralSecurityException("Invalid ID token signature.");
+        }
+        if (!idToken.verifyIssuer(ISSUERS) || !idToken.verifyAudience(audience)
+                || !idToken.verifyTime(System.currentTimeMillis(), CLOCK_SKEW_SECONDS)) {
+            throw new GeneralSecurityException("Invalid ID token.");
+        }
+        return idToken.getPayload();
+    }
+
+    private PublicKey signingKey(String keyId) throws IOException {
+        GoogleSigningKeys current = keys;
+        if (current == null) {
+            current = refresh();
+        }
+        PublicKey key = keyId != null ? current.keysById().get(keyId) : null;
+        if (key == null && keyId != null && lastRefresh.plus(minRefreshInterval).isBefore(Instant.now())) {
+            // Google may have rotated keys before our copy expired
+            key = refresh().keysById().get(keyId);
+        }
+        return key;
+    }
+
+    private synchronized GoogleSigningKeys refresh() throws IOException {
+        if (keys != null && lastRefresh.plus(minRefreshInterval).isAfter(Instant.now())) {
+            return keys;
+        }
+        GoogleSigningKeys fetched = keySource.fetch();
+        keys = fetched;
+        lastRefresh = Instant.now();
+        scheduleRefresh(Duration.between(Instant.now(), fetched.expiresAt()).minus(REFRESH_AHEAD));
+        return fetched;
+    }
+
+    private synchronized void scheduleRefresh(Duration delay) {
+        if (nextRefresh != null) {
+            nextRefresh.cancel(false);
+        }
+        long delayMillis = Math.max(delay.toMillis(), minRefreshInterval.toMillis());
+        nextRefresh = refresher.schedule(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Could not refresh Google signing keys, keeping the current set: {}", e.getMessage());
+                scheduleRefresh(minRefreshInterval);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
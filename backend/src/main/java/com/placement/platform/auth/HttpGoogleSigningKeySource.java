@@ -0,0 +1,70 @@
+package com.placement.platform.auth;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Reads the PEM certificates published at Google's v1 certs endpoint and honours its Cache-Control max-age.
+@Component
+public class HttpGoogleSigningKeySource implements GoogleSigningKeySource {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private final String certsUrl;
+    private final HttpRequestFactory requestFactory = new NetHttpTransport().createRequestFactory();
+
+    public HttpGoogleSigningKeySource(
+            @Value("${application.security.google.certs-url:https://www.googleapis.com/oauth2/v1/certs}") String certsUrl) {
+        this.certsUrl = certsUrl;
+    }
+
+    @Override
+    public GoogleSigningKeys fetch() throws IOException {
+        HttpResponse response = requestFactory.buildGetRequest(new GenericUrl(certsUrl)).execute();
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> certificates = GsonFactory.getDefaultInstance()
+                    .createJsonParser(response.getContent(), StandardCharsets.UTF_8)
+                    .parse(HashMap.class);
+            Map<String, PublicKey> keys = new HashMap<>();
+            CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            for (Map.Entry<String, Object> entry : certificates.entrySet()) {
+                byte[] pem = entry.getValue().toString().getBytes(StandardCharsets.US_ASCII);
+                keys.put(entry.getKey(), factory.generateCertificate(new ByteArrayInputStream(pem)).getPublicKey());
+            }
+            return new GoogleSigningKeys(keys, Instant.now().plus(maxAge(response.getHeaders().getCacheControl())));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Could not parse Google signing certificates", e);
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    private static Duration maxAge(String cacheControl) {
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return DEFAULT_MAX_AGE;
+    }
+}
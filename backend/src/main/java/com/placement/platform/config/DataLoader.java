@@ -3,11 +3,14 @@ package com.placement.platform.config;
 import com.placement.platform.domain.Difficulty;
 import com.placement.platform.domain.Question;
 import com.placement.platform.domain.Company;
+import com.placement.platform.domain.Contest;
+import com.placement.platform.repository.ContestRepository;
 import com.placement.platform.repository.QuestionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
@@ -17,11 +20,13 @@ public class DataLoader implements CommandLineRunner {
         private final QuestionRepository questionRepository;
         private final com.placement.platform.repository.CompanyRepository companyRepository;
         private final com.placement.platform.repository.InterviewQuestionRepository interviewQuestionRepository;
+        private final ContestRepository contestRepository;
 
         @Override
         public void run(String... args) throws Exception {
                 loadDsaQuestions();
                 loadCompanyQuestions();
+                loadContests();
         }
 
         private void loadDsaQuestions() {
@@ -81,4 +86,33 @@ public class DataLoader implements CommandLineRunner {
                         System.out.println("Data loaded: Companies and Interview Questions.");
                 }
         }
+
+        private void loadContests() {
+                if (contestRepository.count() == 0) {
+                        List<Contest> contests = List.of(
+                                        Contest.builder()
+                                                        .name("Weekly Contest 385")
+                                                        .platform("LeetCode")
+                                                        .link("https://leetcode.com/contest/")
+                                                        .startTime(LocalDateTime.now().plusDays(2))
+                                                        .duration("1.5 Hours")
+                                                        .build(),
+                                        Contest.builder()
+                                                        .name("Starters 118")
+                                                        .platform("CodeChef")
+                                                        .link("https://www.codechef.com/")
+                                                        .startTime(LocalDateTime.now().plusHours(5))
+                                                        .duration("2 Hours")
+                                                        .build(),
+                                        Contest.builder()
+                                                        .name("Codeforces Round 999")
+                                                        .platform("Codeforces")
+                                                        .link("https://codeforces.com/")
+                                                        .startTime(LocalDateTime.now().minusHours(1))
+                                                        .duration("2 Hours")
+                                                        .build());
+                        contestRepository.saveAll(contests);
+                        System.out.println("Data loaded: " + contests.size() + " contests.");
+                }
+        }
 }
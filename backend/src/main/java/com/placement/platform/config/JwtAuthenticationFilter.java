@@ -1,6 +1,10 @@
 package com.placement.platform.config;
 
+import com.placement.platform.security.AuthenticatedUser;
 import com.placement.platform.security.JwtService;
+import com.placement.platform.security.TokenVersionRegistry;
+import com.placement.platform.security.UserIdentityCache;
+import com.placement.platform.security.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,8 +13,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -22,7 +24,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserIdentityCache userIdentityCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -37,14 +40,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        VerifiedToken token = jwtService.verify(jwt);
+        userEmail = token.subject();
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            AuthenticatedUser principal = resolvePrincipal(token);
+            if (tokenVersionRegistry.isCurrent(principal.id(), token.tokenVersion())
+                    && jwtService.isTokenValid(token, principal)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities());
+                        principal.getAuthorities());
                 authToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -52,4 +57,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private AuthenticatedUser resolvePrincipal(VerifiedToken token) {
+        if (token.userId() != null && token.role() != null) {
+            return new AuthenticatedUser(token.userId(), token.subject(), token.role());
+        }
+        // Tokens issued before identity claims existed resolve through the email cache
+        return userIdentityCache.resolve(token.subject());
+    }
 }
@@ -0,0 +1,53 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.dto.CohortSummary;
+import com.placement.platform.dto.QuestionSolveRate;
+import com.placement.platform.dto.TopicCompletion;
+import com.placement.platform.service.CohortAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// Every query takes an optional cohort filter; omit both to cover all students
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsAdminController {
+
+    private final CohortAnalyticsService cohortAnalyticsService;
+
+    @GetMapping("/cohort")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CohortSummary> getCohort(
+            @RequestParam(required = false) Integer graduationYear,
+            @RequestParam(required = false) String university) {
+        return ResponseEntity.ok(cohortAnalyticsService.cohort(graduationYear, university));
+    }
+
+    @GetMapping("/topics/{topic}/completion")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TopicCompletion> getTopicCompletion(
+            @PathVariable String topic,
+            @RequestParam(required = false) Integer graduationYear,
+            @RequestParam(required = false) String university) {
+        return ResponseEntity.ok(cohortAnalyticsService.topicCompletion(topic, graduationYear, university));
+    }
+
+    @GetMapping("/questions/solve-rates")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<QuestionSolveRate>> getSolveRates(
+            @RequestParam(required = false) Integer graduationYear,
+            @RequestParam(required = false) String university,
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) Double maxRate,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(cohortAnalyticsService.solveRates(graduationYear, university, topic, maxRate, limit));
+    }
+}
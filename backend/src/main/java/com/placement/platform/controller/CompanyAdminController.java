@@ -0,0 +1,25 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.service.CompanyHeatmapService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/companies")
+@RequiredArgsConstructor
+public class CompanyAdminController {
+
+    private final CompanyHeatmapService companyHeatmapService;
+
+    // After edits made directly in the database
+    @PostMapping("/heatmaps/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildHeatmaps() {
+        companyHeatmapService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,6 +2,10 @@ package com.placement.platform.controller;
 
 import com.placement.platform.domain.Company;
 import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.dto.CompanyDetail;
+import com.placement.platform.dto.CompanyHeatmap;
+import com.placement.platform.dto.TopicOverlap;
+import com.placement.platform.service.CompanyHeatmapService;
 import com.placement.platform.service.CompanyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +20,7 @@ import java.util.UUID;
 public class CompanyController {
 
     private final CompanyService companyService;
+    private final CompanyHeatmapService companyHeatmapService;
 
     @GetMapping
     public ResponseEntity<List<Company>> getAllCompanies() {
@@ -27,6 +32,24 @@ public class CompanyController {
         return ResponseEntity.ok(companyService.addCompany(company));
     }
 
+    @GetMapping("/{companyId}")
+    public ResponseEntity<CompanyDetail> getCompanyDetail(
+            @PathVariable UUID companyId,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(companyService.getCompanyDetail(companyId, offset, limit));
+    }
+
+    @GetMapping("/{companyId}/heatmap")
+    public ResponseEntity<CompanyHeatmap> getHeatmap(@PathVariable UUID companyId) {
+        return ResponseEntity.ok(companyHeatmapService.heatmap(companyId));
+    }
+
+    @GetMapping("/compare")
+    public ResponseEntity<List<TopicOverlap>> compareCompanies(@RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(companyHeatmapService.commonTopics(ids));
+    }
+
     @GetMapping("/{companyId}/questions")
     public ResponseEntity<List<InterviewQuestion>> getQuestionsByCompany(@PathVariable UUID companyId) {
         return ResponseEntity.ok(companyService.getQuestionsByCompany(companyId));
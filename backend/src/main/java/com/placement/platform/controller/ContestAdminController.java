@@ -0,0 +1,27 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.dto.ContestSyncReport;
+import com.placement.platform.service.ContestSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/contests")
+@RequiredArgsConstructor
+public class ContestAdminController {
+
+    private final ContestSyncService contestSyncService;
+
+    // Works whether or not scheduled syncing is enabled
+    @PostMapping("/sync")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ContestSyncReport>> syncContests() {
+        return ResponseEntity.ok(contestSyncService.sync());
+    }
+}
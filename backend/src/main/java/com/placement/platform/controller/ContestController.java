@@ -1,15 +1,20 @@
 package com.placement.platform.controller;
 
-import com.placement.platform.domain.Contest;
+import com.placement.platform.dto.ContestView;
+import com.placement.platform.service.ContestNotificationHub;
 import com.placement.platform.service.ContestService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import com.placement.platform.service.AiService;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -20,10 +25,33 @@ public class ContestController {
 
     private final ContestService contestService;
     private final AiService aiService;
+    private final ContestNotificationHub contestNotificationHub;
 
+    // from/to bound the start time; without either, contests that are running or still to come
     @GetMapping
-    public ResponseEntity<List<Contest>> getContests() {
-        return ResponseEntity.ok(contestService.getAllContests());
+    public ResponseEntity<List<ContestView>> getContests(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String platform) {
+        return ResponseEntity.ok(contestService.getContests(from, to, platform));
+    }
+
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<ContestView>> getUpcomingContests(
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) String platform) {
+        return ResponseEntity.ok(contestService.getUpcoming(days, platform));
+    }
+
+    @GetMapping("/live")
+    public ResponseEntity<List<ContestView>> getLiveContests(@RequestParam(required = false) String platform) {
+        return ResponseEntity.ok(contestService.getLive(platform));
+    }
+
+    // Server-sent "reminder" and "started" events carrying the contest
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamContests(@RequestParam(required = false) String platform) {
+        return contestNotificationHub.subscribe(platform);
     }
 
     @GetMapping("/search")
@@ -0,0 +1,37 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.service.DsaService;
+import com.placement.platform.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/dsa")
+@RequiredArgsConstructor
+public class DsaAdminController {
+
+    private final DsaService dsaService;
+    private final LeaderboardService leaderboardService;
+
+    // Drops cached progress statistics for one user, or for everyone when no user is given
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildProgressStatistics(@RequestParam(required = false) UUID userId) {
+        dsaService.rebuildProgressStatistics(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/leaderboard/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildLeaderboard() {
+        leaderboardService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
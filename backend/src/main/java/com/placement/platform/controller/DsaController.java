@@ -1,18 +1,35 @@
 package com.placement.platform.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.platform.domain.Difficulty;
 import com.placement.platform.domain.Question;
 import com.placement.platform.domain.Status;
-import com.placement.platform.domain.UserProgress;
+import com.placement.platform.dto.CursorPage;
+import com.placement.platform.dto.ProgressBreakdown;
+import com.placement.platform.dto.ProgressUpdate;
+import com.placement.platform.dto.ProgressView;
+import com.placement.platform.dto.Recommendation;
+import com.placement.platform.dto.RevisionItem;
+import com.placement.platform.security.AuthenticatedUser;
 import com.placement.platform.service.DsaService;
+import com.placement.platform.service.RecommendationService;
+import com.placement.platform.service.RevisionService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/v1/dsa")
@@ -20,13 +37,26 @@ import java.util.UUID;
 public class DsaController {
 
     private final DsaService dsaService;
+    private final ObjectMapper objectMapper;
+    private final RecommendationService recommendationService;
+    private final RevisionService revisionService;
 
     @GetMapping("/questions")
-    public ResponseEntity<List<Question>> getAllQuestions(@RequestParam(required = false) String topic) {
-        if (topic != null) {
-            return ResponseEntity.ok(dsaService.getQuestionsByTopic(topic));
+    public ResponseEntity<CursorPage<Question>> getQuestions(
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) Difficulty difficulty,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        String eTag = dsaService.getCatalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
         }
-        return ResponseEntity.ok(dsaService.getAllQuestions());
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(dsaService.getQuestions(topic, difficulty, search, cursor, size));
     }
 
     @PostMapping("/questions")
@@ -36,21 +66,64 @@ public class DsaController {
     }
 
     @PostMapping("/progress")
-    public ResponseEntity<UserProgress> updateProgress(
-            Authentication authentication,
+    public ResponseEntity<ProgressUpdate> updateProgress(
+            AuthenticatedUser user,
             @RequestBody UpdateProgressRequest request) {
         return ResponseEntity
-                .ok(dsaService.updateProgress(authentication.getName(), request.getQuestionId(), request.getStatus()));
+                .ok(dsaService.updateProgress(user.id(), request.getQuestionId(), request.getStatus()));
     }
 
+    @PostMapping("/progress/batch")
+    public ResponseEntity<List<ProgressUpdate>> updateProgressBatch(
+            AuthenticatedUser user,
+            @RequestBody List<UpdateProgressRequest> requests) {
+        List<ProgressUpdate> updates = requests.stream()
+                .map(request -> new ProgressUpdate(request.getQuestionId(), request.getStatus()))
+                .toList();
+        return ResponseEntity.ok(dsaService.updateProgressBatch(user.id(), updates));
+    }
+
+    // Written a page at a time so a large tracker is never held in memory as a list
     @GetMapping("/progress")
-    public ResponseEntity<List<UserProgress>> getUserProgress(Authentication authentication) {
-        return ResponseEntity.ok(dsaService.getUserProgress(authentication.getName()));
+    public void getUserProgress(AuthenticatedUser user, HttpServletResponse response) throws IOException {
+        ProgressArrayWriter writer = new ProgressArrayWriter(response);
+        dsaService.forEachProgressPage(user.id(), writer);
+        writer.finish();
     }
 
     @GetMapping("/stats")
-    public ResponseEntity<Long> getSolvedCount(Authentication authentication) {
-        return ResponseEntity.ok(dsaService.getSolvedCount(authentication.getName()));
+    public ResponseEntity<Long> getSolvedCount(AuthenticatedUser user) {
+        return ResponseEntity.ok(dsaService.getSolvedCount(user.id()));
+    }
+
+    @GetMapping("/recommendations")
+    public ResponseEntity<List<Recommendation>> getRecommendations(
+            AuthenticatedUser user,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(recommendationService.recommend(user.id(), limit));
+    }
+
+    @GetMapping("/stats/breakdown")
+    public ResponseEntity<ProgressBreakdown> getProgressBreakdown(AuthenticatedUser user) {
+        return ResponseEntity.ok(dsaService.getProgressBreakdown(user.id()));
+    }
+
+    @GetMapping("/revisions/due")
+    public ResponseEntity<List<RevisionItem>> getDueRevisions(AuthenticatedUser user) {
+        return ResponseEntity.ok(revisionService.dueFor(user.id()));
+    }
+
+    @PostMapping("/revisions/{questionId}/review")
+    public ResponseEntity<RevisionItem> reviewQuestion(
+            AuthenticatedUser user,
+            @PathVariable UUID questionId,
+            @RequestBody ReviewRequest request) {
+        return ResponseEntity.ok(revisionService.review(user.id(), questionId, request.isRemembered()));
+    }
+
+    @Data
+    public static class ReviewRequest {
+        private boolean remembered;
     }
 
     @Data
@@ -58,4 +131,42 @@ public class DsaController {
         private UUID questionId;
         private Status status;
     }
+
+    // Nothing is written until the first page has loaded, so a query that fails outright still gets an error
+    // status. A failure after that leaves the array unclosed rather than ending it as if it were complete.
+    private class ProgressArrayWriter implements Consumer<List<ProgressView>> {
+        private final HttpServletResponse response;
+        private JsonGenerator json;
+
+        private ProgressArrayWriter(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void accept(List<ProgressView> page) {
+            try {
+                start();
+                for (ProgressView view : page) {
+                    json.writeObject(view);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void start() throws IOException {
+            if (json == null) {
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                json = objectMapper.getFactory().createGenerator(response.getOutputStream())
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                json.writeStartArray();
+            }
+        }
+
+        private void finish() throws IOException {
+            start();
+            json.writeEndArray();
+            json.close();
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.dto.DuplicateGroup;
+import com.placement.platform.service.InterviewQuestionSimilarityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/interview-questions")
+@RequiredArgsConstructor
+public class InterviewQuestionAdminController {
+
+    private final InterviewQuestionSimilarityService similarityService;
+
+    // Groups of likely duplicates to review for merging; nothing is changed
+    @GetMapping("/duplicates")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<DuplicateGroup>> getDuplicates(
+            @RequestParam(required = false) Double minSimilarity,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(similarityService.duplicates(minSimilarity, limit));
+    }
+
+    @PostMapping("/similarity/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildSimilarityIndex() {
+        similarityService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.dto.SimilarQuestion;
+import com.placement.platform.service.InterviewQuestionSimilarityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/interview-questions")
+@RequiredArgsConstructor
+public class InterviewQuestionController {
+
+    private final InterviewQuestionSimilarityService similarityService;
+
+    @GetMapping("/{questionId}/similar")
+    public ResponseEntity<List<SimilarQuestion>> getSimilarQuestions(
+            @PathVariable UUID questionId,
+            @RequestParam(required = false) Double minSimilarity,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(similarityService.similar(questionId, minSimilarity, limit));
+    }
+}
@@ -0,0 +1,34 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.dto.ImportReport;
+import com.placement.platform.service.InterviewQuestionImportService;
+import com.placement.platform.util.ImportRecordReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/admin/interview-questions")
+@RequiredArgsConstructor
+public class InterviewQuestionImportController {
+
+    private final InterviewQuestionImportService interviewQuestionImportService;
+
+    // Columns: company, title, and optionally description, difficulty, topic, frequency, industry (for new companies)
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportReport> importQuestions(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(interviewQuestionImportService.importQuestions(body,
+                ImportRecordReader.Format.fromContentType(contentType)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.dto.LeaderboardEntry;
+import com.placement.platform.security.AuthenticatedUser;
+import com.placement.platform.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/dsa/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    // Omit topic for the overall board
+    @GetMapping
+    public ResponseEntity<List<LeaderboardEntry>> getTop(
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(leaderboardService.top(topic, offset, limit));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<LeaderboardEntry> getMyRank(
+            AuthenticatedUser user,
+            @RequestParam(required = false) String topic) {
+        return ResponseEntity.ok(leaderboardService.rankOf(user.id(), topic));
+    }
+
+    @GetMapping("/around-me")
+    public ResponseEntity<List<LeaderboardEntry>> getAroundMe(
+            AuthenticatedUser user,
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) Integer window) {
+        return ResponseEntity.ok(leaderboardService.around(user.id(), topic, window));
+    }
+}
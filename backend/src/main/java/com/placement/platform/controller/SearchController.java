@@ -0,0 +1,29 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.dto.SearchHit;
+import com.placement.platform.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // type is DSA or INTERVIEW; omit it to search both
+    @GetMapping
+    public ResponseEntity<List<SearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(searchService.search(q, type, limit));
+    }
+}
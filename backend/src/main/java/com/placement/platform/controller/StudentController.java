@@ -1,10 +1,10 @@
 package com.placement.platform.controller;
 
 import com.placement.platform.domain.Profile;
+import com.placement.platform.security.AuthenticatedUser;
 import com.placement.platform.service.StudentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -15,14 +15,14 @@ public class StudentController {
     private final StudentService studentService;
 
     @GetMapping("/profile")
-    public ResponseEntity<Profile> getProfile(Authentication authentication) {
-        return ResponseEntity.ok(studentService.getProfile(authentication.getName()));
+    public ResponseEntity<Profile> getProfile(AuthenticatedUser user) {
+        return ResponseEntity.ok(studentService.getProfile(user.id()));
     }
 
     @PutMapping("/profile")
     public ResponseEntity<Profile> updateProfile(
-            Authentication authentication,
+            AuthenticatedUser user,
             @RequestBody Profile profile) {
-        return ResponseEntity.ok(studentService.updateProfile(authentication.getName(), profile));
+        return ResponseEntity.ok(studentService.updateProfile(user.id(), profile));
     }
 }
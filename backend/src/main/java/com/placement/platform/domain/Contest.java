@@ -20,10 +20,13 @@ public class Contest {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // "<platform>:<platform's own id>" for contests synced from a feed
+    @Column(unique = true)
+    private String externalId;
+
     private String name;
     private String platform; // LeetCode, CodeChef, etc.
     private String link;
     private LocalDateTime startTime;
-    private String duration;
-    private String status; // UPCOMING, ONGOING
+    private String duration; // as listed by the platform, e.g. "1.5 Hours"
 }
@@ -0,0 +1,7 @@
+package com.placement.platform.domain;
+
+public enum ContestStatus {
+    UPCOMING,
+    ONGOING,
+    ENDED
+}
@@ -37,6 +37,14 @@ public class User implements UserDetails {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    // Bumped on role or password changes so previously issued tokens stop validating
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
+    public int currentTokenVersion() {
+        return tokenVersion != null ? tokenVersion : 0;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
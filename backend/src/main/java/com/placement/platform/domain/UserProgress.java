@@ -1,5 +1,6 @@
 package com.placement.platform.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,7 +25,8 @@ public class UserProgress {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ManyToOne
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -37,4 +39,12 @@ public class UserProgress {
 
     @CreationTimestamp
     private LocalDateTime completedAt;
+
+    // When the status last became SOLVED; null while it is not
+    private LocalDateTime solvedAt;
+
+    // Spaced-repetition state; null step means no review recorded yet
+    private Integer reviewStep;
+
+    private LocalDateTime nextReviewAt;
 }
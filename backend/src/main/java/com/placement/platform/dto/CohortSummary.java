@@ -0,0 +1,4 @@
+package com.placement.platform.dto;
+
+public record CohortSummary(Integer graduationYear, String university, long students) {
+}
@@ -0,0 +1,9 @@
+package com.placement.platform.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// A company with one page of its questions, most frequently asked first
+public record CompanyDetail(UUID id, String name, String industry, String description, int totalQuestions,
+        List<InterviewQuestionRow> questions, boolean hasNext) {
+}
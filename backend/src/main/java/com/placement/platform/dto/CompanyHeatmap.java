@@ -0,0 +1,8 @@
+package com.placement.platform.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// Topics ordered by question count, highest first
+public record CompanyHeatmap(UUID companyId, int questions, List<TopicHeat> topics) {
+}
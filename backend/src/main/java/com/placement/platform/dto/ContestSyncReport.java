@@ -0,0 +1,6 @@
+package com.placement.platform.dto;
+
+// modified is false when the platform answered 304 or sent the same listing as last time
+public record ContestSyncReport(String platform, boolean modified, int listed, int inserted, int updated,
+        String error) {
+}
@@ -0,0 +1,11 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.ContestStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// status is worked out from the clock when the view is built
+public record ContestView(UUID id, String name, String platform, String link, LocalDateTime startTime,
+        LocalDateTime endTime, String duration, long durationMinutes, ContestStatus status) {
+}
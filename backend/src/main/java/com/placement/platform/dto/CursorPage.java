@@ -0,0 +1,7 @@
+package com.placement.platform.dto;
+
+import java.util.List;
+
+// One page of a keyset-paginated listing; pass nextCursor back to get the following page. total counts every match.
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasNext, int total) {
+}
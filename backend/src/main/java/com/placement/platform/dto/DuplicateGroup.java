@@ -0,0 +1,7 @@
+package com.placement.platform.dto;
+
+import java.util.List;
+
+// keep is the question the others most resemble; each duplicate's similarity is to keep
+public record DuplicateGroup(SimilarQuestion keep, List<SimilarQuestion> duplicates) {
+}
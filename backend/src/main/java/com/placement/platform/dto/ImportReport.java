@@ -0,0 +1,28 @@
+package com.placement.platform.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ImportReport {
+
+    // Keeps the response bounded for very large uploads; counts stay exact
+    private static final int MAX_REPORTED_FAILURES = 1000;
+
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private final List<ImportFailure> failures = new ArrayList<>();
+
+    public void fail(long row, String key, String reason) {
+        failed++;
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(new ImportFailure(row, key, reason));
+        }
+    }
+
+    public record ImportFailure(long row, String key, String reason) {
+    }
+}
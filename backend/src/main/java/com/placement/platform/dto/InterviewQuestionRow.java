@@ -0,0 +1,9 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.Difficulty;
+
+import java.util.UUID;
+
+public record InterviewQuestionRow(UUID id, String title, String description, String topic, Difficulty difficulty,
+        String frequency) {
+}
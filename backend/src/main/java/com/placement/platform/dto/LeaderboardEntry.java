@@ -0,0 +1,6 @@
+package com.placement.platform.dto;
+
+import java.util.UUID;
+
+public record LeaderboardEntry(long rank, UUID userId, String fullName, int solved) {
+}
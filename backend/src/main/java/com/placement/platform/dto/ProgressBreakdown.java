@@ -0,0 +1,12 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Status;
+
+import java.util.Map;
+
+public record ProgressBreakdown(
+        Map<Status, Long> byStatus,
+        Map<Difficulty, Map<Status, Long>> byDifficulty,
+        Map<String, Map<Difficulty, Map<Status, Long>>> byTopic) {
+}
@@ -0,0 +1,8 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.Status;
+
+import java.util.UUID;
+
+public record ProgressUpdate(UUID questionId, Status status) {
+}
@@ -0,0 +1,16 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ProgressView(
+        UUID questionId,
+        String title,
+        String topic,
+        Difficulty difficulty,
+        Status status,
+        LocalDateTime completedAt) {
+}
@@ -0,0 +1,9 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.Difficulty;
+
+import java.util.UUID;
+
+public record QuestionSolveRate(UUID questionId, String title, String topic, Difficulty difficulty, long solvers,
+        double rate) {
+}
@@ -0,0 +1,14 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.Difficulty;
+
+import java.util.UUID;
+
+public record Recommendation(
+        UUID questionId,
+        String title,
+        String topic,
+        Difficulty difficulty,
+        double score,
+        String reason) {
+}
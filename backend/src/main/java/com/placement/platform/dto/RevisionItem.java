@@ -0,0 +1,11 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.Difficulty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// dueAt is null once the question has been through every review interval
+public record RevisionItem(UUID questionId, String title, String topic, Difficulty difficulty, int step,
+        LocalDateTime dueAt) {
+}
@@ -0,0 +1,16 @@
+package com.placement.platform.dto;
+
+import com.placement.platform.domain.Difficulty;
+
+import java.util.UUID;
+
+// companyId is set for interview questions only
+public record SearchHit(
+        String type,
+        UUID id,
+        String title,
+        String topic,
+        Difficulty difficulty,
+        UUID companyId,
+        float score) {
+}
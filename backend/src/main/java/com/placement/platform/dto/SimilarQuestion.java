@@ -0,0 +1,8 @@
+package com.placement.platform.dto;
+
+import java.util.UUID;
+
+// similarity is the estimated Jaccard similarity of the shingled title and description
+public record SimilarQuestion(UUID questionId, UUID companyId, String companyName, String title, String topic,
+        double similarity) {
+}
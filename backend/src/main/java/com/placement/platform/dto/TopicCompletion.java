@@ -0,0 +1,4 @@
+package com.placement.platform.dto;
+
+public record TopicCompletion(String topic, int questions, long students, long solvedAll, long solvedAny) {
+}
@@ -0,0 +1,7 @@
+package com.placement.platform.dto;
+
+import java.util.Map;
+
+// Question counts by difficulty, then by frequency; empty cells are left out
+public record TopicHeat(String topic, int questions, Map<String, Map<String, Integer>> cells) {
+}
@@ -0,0 +1,7 @@
+package com.placement.platform.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record TopicOverlap(String topic, Map<UUID, Integer> questionsByCompany) {
+}
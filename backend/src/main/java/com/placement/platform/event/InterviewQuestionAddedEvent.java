@@ -0,0 +1,6 @@
+package com.placement.platform.event;
+
+import com.placement.platform.domain.InterviewQuestion;
+
+public record InterviewQuestionAddedEvent(InterviewQuestion question) {
+}
@@ -0,0 +1,11 @@
+package com.placement.platform.event;
+
+import java.util.UUID;
+
+/**
+ * Published after a student's profile is created or saved, carrying the fields
+ * cohorts are built from. Either may be null when the student has not filled
+ * it in yet.
+ */
+public record ProfileUpdatedEvent(UUID userId, Integer graduationYear, String university) {
+}
@@ -0,0 +1,13 @@
+package com.placement.platform.event;
+
+import com.placement.platform.domain.Status;
+
+import java.util.UUID;
+
+/**
+ * Published after a user's status for a question actually changes, and only
+ * once that change is committed. previous is null for the first status
+ * recorded. Events for one user arrive in order.
+ */
+public record ProgressChangedEvent(UUID userId, UUID questionId, Status previous, Status current) {
+}
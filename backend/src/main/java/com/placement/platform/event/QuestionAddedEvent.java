@@ -0,0 +1,6 @@
+package com.placement.platform.event;
+
+import com.placement.platform.domain.Question;
+
+public record QuestionAddedEvent(Question question) {
+}
@@ -0,0 +1,10 @@
+package com.placement.platform.event;
+
+import java.util.UUID;
+
+/**
+ * Published after a student account is created, whether or not it has a
+ * profile yet. Cohort figures count students from this, not from profiles.
+ */
+public record StudentRegisteredEvent(UUID userId) {
+}
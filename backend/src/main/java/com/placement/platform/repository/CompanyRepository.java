@@ -2,8 +2,20 @@ package com.placement.platform.repository;
 
 import com.placement.platform.domain.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface CompanyRepository extends JpaRepository<Company, UUID> {
+
+    interface CompanyName {
+        UUID getId();
+
+        String getName();
+    }
+
+    @Query("SELECT c.id AS id, c.name AS name FROM Company c WHERE LOWER(c.name) IN :names")
+    List<CompanyName> findByLowerCaseNameIn(Collection<String> names);
 }
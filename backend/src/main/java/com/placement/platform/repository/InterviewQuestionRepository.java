@@ -1,11 +1,66 @@
 package com.placement.platform.repository;
 
+import com.placement.platform.domain.Difficulty;
 import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.dto.InterviewQuestionRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface InterviewQuestionRepository extends JpaRepository<InterviewQuestion, UUID> {
     List<InterviewQuestion> findByCompanyId(UUID companyId);
+
+    // Question columns only; the company is not joined
+    @Query("SELECT new com.placement.platform.dto.InterviewQuestionRow(q.id, q.title, q.description, q.topic, q.difficulty, q.frequency) "
+            + "FROM InterviewQuestion q WHERE q.company.id = :companyId")
+    List<InterviewQuestionRow> findRowsByCompanyId(UUID companyId);
+
+    interface CompanyTitle {
+        UUID getCompanyId();
+
+        String getTitle();
+    }
+
+    @Query("SELECT q.company.id AS companyId, q.title AS title FROM InterviewQuestion q WHERE q.company.id IN :companyIds")
+    List<CompanyTitle> findTitlesByCompanyIdIn(Collection<UUID> companyIds);
+
+    interface HeatmapCell {
+        UUID getCompanyId();
+
+        String getTopic();
+
+        Difficulty getDifficulty();
+
+        String getFrequency();
+
+        long getQuestions();
+    }
+
+    @Query("SELECT q.company.id AS companyId, q.topic AS topic, q.difficulty AS difficulty, q.frequency AS frequency, "
+            + "COUNT(q) AS questions FROM InterviewQuestion q GROUP BY q.company.id, q.topic, q.difficulty, q.frequency")
+    List<HeatmapCell> countByCompanyTopicDifficultyAndFrequency();
+
+    interface SimilarityText {
+        UUID getId();
+
+        UUID getCompanyId();
+
+        String getTitle();
+
+        String getDescription();
+
+        String getTopic();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1024"))
+    @Query("SELECT q.id AS id, q.company.id AS companyId, q.title AS title, q.description AS description, "
+            + "q.topic AS topic FROM InterviewQuestion q")
+    Stream<SimilarityText> streamSimilarityTexts();
 }
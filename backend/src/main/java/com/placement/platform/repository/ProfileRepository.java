@@ -1,11 +1,34 @@
 package com.placement.platform.repository;
 
 import com.placement.platform.domain.Profile;
+import com.placement.platform.domain.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ProfileRepository extends JpaRepository<Profile, UUID> {
     Optional<Profile> findByUser(com.placement.platform.domain.User user);
+
+    @Query("SELECT p FROM Profile p JOIN FETCH p.user WHERE p.user.id = :userId")
+    Optional<Profile> findByUserId(UUID userId);
+
+    interface CohortMembership {
+        UUID getUserId();
+
+        Integer getGraduationYear();
+
+        String getUniversity();
+    }
+
+    // Every user with the role, profile or not; the profile fields are null when there is none
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1024"))
+    @Query("SELECT u.id AS userId, p.graduationYear AS graduationYear, p.university AS university "
+            + "FROM User u LEFT JOIN Profile p ON p.user = u WHERE u.role = :role")
+    Stream<CohortMembership> streamCohortMemberships(Role role);
 }
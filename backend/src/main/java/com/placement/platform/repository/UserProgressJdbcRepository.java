@@ -0,0 +1,124 @@
+package com.placement.platform.repository;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.ProgressView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes progress with a single native upsert per row instead of the
+ * find-then-save round trips of the JPA path. Concurrent first writes for the
+ * same (user, question) resolve inside the database rather than racing on the
+ * unique constraint. completed_at keeps its insert-time semantics; solved_at
+ * is set when the status becomes SOLVED and cleared when it stops being, and
+ * the revision schedule on the row is reset whenever either happens.
+ */
+@Repository
+public class UserProgressJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String H2_UPSERT = "MERGE INTO user_progress t "
+            + "USING (VALUES (CAST(? AS UUID), CAST(? AS UUID), CAST(? AS UUID), CAST(? AS VARCHAR(32)), CAST(? AS TIMESTAMP), "
+            + "CAST(? AS TIMESTAMP))) s(id, user_id, question_id, status, completed_at, solved_at) "
+            + "ON t.user_id = s.user_id AND t.question_id = s.question_id "
+            + "WHEN MATCHED THEN UPDATE SET "
+            + "t.solved_at = CASE WHEN t.status = 'SOLVED' AND s.status = 'SOLVED' THEN t.solved_at ELSE s.solved_at END, "
+            + "t.review_step = CASE WHEN t.status = 'SOLVED' AND s.status = 'SOLVED' THEN t.review_step END, "
+            + "t.next_review_at = CASE WHEN t.status = 'SOLVED' AND s.status = 'SOLVED' THEN t.next_review_at END, "
+            + "t.status = s.status "
+            + "WHEN NOT MATCHED THEN INSERT (id, user_id, question_id, status, completed_at, solved_at) "
+            + "VALUES (s.id, s.user_id, s.question_id, s.status, s.completed_at, s.solved_at)";
+
+    private static final String POSTGRES_UPSERT = "INSERT INTO user_progress (id, user_id, question_id, status, completed_at, solved_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (user_id, question_id) DO UPDATE SET "
+            + "solved_at = CASE WHEN user_progress.status = 'SOLVED' AND EXCLUDED.status = 'SOLVED' "
+            + "THEN user_progress.solved_at ELSE EXCLUDED.solved_at END, "
+            + "review_step = CASE WHEN user_progress.status = 'SOLVED' AND EXCLUDED.status = 'SOLVED' "
+            + "THEN user_progress.review_step END, "
+            + "next_review_at = CASE WHEN user_progress.status = 'SOLVED' AND EXCLUDED.status = 'SOLVED' "
+            + "THEN user_progress.next_review_at END, "
+            + "status = EXCLUDED.status";
+
+    // Keyset pages in the order the progress page lists them; ties on title fall back to the question id
+    private static final String VIEWS = "SELECT q.id, q.title, q.topic, q.difficulty, up.status, up.completed_at "
+            + "FROM user_progress up JOIN dsa_questions q ON q.id = up.question_id WHERE up.user_id = ? ";
+
+    private static final String FIRST_VIEWS = VIEWS + "ORDER BY q.title, q.id LIMIT ?";
+
+    private static final String NEXT_VIEWS = VIEWS + "AND (q.title > ? OR (q.title = ? AND q.id > ?)) "
+            + "ORDER BY q.title, q.id LIMIT ?";
+
+    private static final RowMapper<ProgressView> VIEW_MAPPER = (rs, rowNum) -> {
+        String difficulty = rs.getString(4);
+        Timestamp completedAt = rs.getTimestamp(6);
+        return new ProgressView(rs.getObject(1, UUID.class), rs.getString(2), rs.getString(3),
+                difficulty == null ? null : Difficulty.valueOf(difficulty), Status.valueOf(rs.getString(5)),
+                completedAt == null ? null : completedAt.toLocalDateTime());
+    };
+
+    private static final String UPDATE_REVIEW = "UPDATE user_progress SET review_step = ?, next_review_at = ? "
+            + "WHERE user_id = ? AND question_id = ?";
+
+    public record ProgressWrite(UUID userId, UUID questionId, Status status) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    public UserProgressJdbcRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.upsertSql = switch (product) {
+            case "H2" -> H2_UPSERT;
+            case "PostgreSQL" -> POSTGRES_UPSERT;
+            default -> throw new IllegalStateException("No progress upsert statement for database " + product);
+        };
+    }
+
+    public void upsert(ProgressWrite write) {
+        jdbcTemplate.update(upsertSql, parameters(write, Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    public void upsertAll(List<ProgressWrite> writes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(upsertSql, writes, BATCH_SIZE, (statement, write) -> {
+            Object[] parameters = parameters(write, now);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+        });
+    }
+
+    // The first page when after is null, otherwise the page that follows that view
+    public List<ProgressView> findViews(UUID userId, ProgressView after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(FIRST_VIEWS, VIEW_MAPPER, userId, limit);
+        }
+        return jdbcTemplate.query(NEXT_VIEWS, VIEW_MAPPER, userId, after.title(), after.title(), after.questionId(),
+                limit);
+    }
+
+    // Returns false when the progress row is not there (yet)
+    public boolean updateReview(UUID userId, UUID questionId, Integer step, LocalDateTime nextReviewAt) {
+        return jdbcTemplate.update(UPDATE_REVIEW, step, nextReviewAt == null ? null : Timestamp.valueOf(nextReviewAt),
+                userId, questionId) > 0;
+    }
+
+    private static Object[] parameters(ProgressWrite write, Timestamp now) {
+        return new Object[] { UUID.randomUUID(), write.userId(), write.questionId(), write.status().name(), now,
+                write.status() == Status.SOLVED ? now : null };
+    }
+}
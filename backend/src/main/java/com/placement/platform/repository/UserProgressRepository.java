@@ -1,18 +1,71 @@
 package com.placement.platform.repository;
 
+import com.placement.platform.domain.Status;
 import com.placement.platform.domain.UserProgress;
+import com.placement.platform.dto.ProgressUpdate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface UserProgressRepository extends JpaRepository<UserProgress, UUID> {
     Optional<UserProgress> findByUserIdAndQuestionId(UUID userId, UUID questionId);
 
-    List<UserProgress> findByUserId(UUID userId);
-
     @Query("SELECT COUNT(up) FROM UserProgress up WHERE up.user.id = :userId AND up.status = 'SOLVED'")
     long countSolvedByUserId(UUID userId);
+
+    @Query("SELECT new com.placement.platform.dto.ProgressUpdate(up.question.id, up.status) FROM UserProgress up WHERE up.user.id = :userId")
+    List<ProgressUpdate> findStatusesByUserId(UUID userId);
+
+    interface SolvedByTopic {
+        UUID getUserId();
+
+        String getTopic();
+
+        long getSolved();
+    }
+
+    @Query("SELECT up.user.id AS userId, up.question.topic AS topic, COUNT(up) AS solved FROM UserProgress up "
+            + "WHERE up.status = 'SOLVED' GROUP BY up.user.id, up.question.topic")
+    List<SolvedByTopic> countSolvedByUserAndTopic();
+
+    interface UserQuestionStatus {
+        UUID getUserId();
+
+        UUID getQuestionId();
+
+        Status getStatus();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1024"))
+    @Query("SELECT up.user.id AS userId, up.question.id AS questionId, up.status AS status FROM UserProgress up "
+            + "WHERE up.status <> 'PENDING'")
+    Stream<UserQuestionStatus> streamStartedProgress();
+
+    interface SolvedReview {
+        UUID getUserId();
+
+        UUID getQuestionId();
+
+        LocalDateTime getCompletedAt();
+
+        LocalDateTime getSolvedAt();
+
+        Integer getReviewStep();
+
+        LocalDateTime getNextReviewAt();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1024"))
+    @Query("SELECT up.user.id AS userId, up.question.id AS questionId, up.completedAt AS completedAt, "
+            + "up.solvedAt AS solvedAt, up.reviewStep AS reviewStep, up.nextReviewAt AS nextReviewAt "
+            + "FROM UserProgress up WHERE up.status = 'SOLVED'")
+    Stream<SolvedReview> streamSolvedReviews();
 }
@@ -1,8 +1,13 @@
 package com.placement.platform.repository;
 
 import com.placement.platform.domain.User;
+import com.placement.platform.security.AuthenticatedUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +15,26 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @Query("SELECT new com.placement.platform.security.AuthenticatedUser(u.id, u.email, u.role) FROM User u WHERE u.email = :email")
+    Optional<AuthenticatedUser> findIdentityByEmail(String email);
+
+    interface DisplayName {
+        UUID getId();
+
+        String getFullName();
+    }
+
+    @Query("SELECT u.id AS id, u.fullName AS fullName FROM User u WHERE u.id IN :ids")
+    List<DisplayName> findDisplayNames(Collection<UUID> ids);
+
+    @Query("SELECT COALESCE(u.tokenVersion, 0) FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(UUID id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = COALESCE(u.tokenVersion, 0) + 1 WHERE u.id = :id")
+    int incrementTokenVersion(UUID id);
 }
@@ -1,19 +1,25 @@
 package com.placement.platform.security;
 
-import io.jsonwebtoken.Claims;
+import com.placement.platform.domain.User;
+import com.placement.platform.util.BoundedCache;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
 public class JwtService {
@@ -24,19 +30,54 @@ public class JwtService {
     @Value("${application.security.jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${application.security.jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    private Key signInKey;
+    private JwtParser parser;
+    private BoundedCache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        verifiedTokens = new BoundedCache<>(verifiedCacheSize);
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    /**
+     * Verifies the signature and expiry of a token once and caches the result
+     * until the token expires, so repeated requests with the same token skip
+     * parsing. Invalid or expired tokens throw the usual {@code JwtException}.
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken verified = VerifiedToken.from(parser.parseClaimsJws(token).getBody());
+        verifiedTokens.put(digest, verified, verified.expiresAt().toEpochMilli());
+        return verified;
     }
 
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(VerifiedToken.USER_ID_CLAIM, user.getId().toString());
+        claims.put(VerifiedToken.ROLE_CLAIM, user.getRole().name());
+        claims.put(VerifiedToken.TOKEN_VERSION_CLAIM, user.currentTokenVersion());
+        return generateToken(claims, user);
+    }
+
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
@@ -47,33 +88,24 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername()) && !token.isExpired();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,79 @@
+package com.placement.platform.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt work off the request threads on a pool sized to the CPU count.
+ * The queue is bounded; once it is full new work is rejected straight away
+ * with a 503 instead of piling up behind a login storm. Bulk jobs such as
+ * student imports hash on a separate, smaller pool of low-priority threads,
+ * so an import never takes queue slots from interactive sign-ins.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+
+    public PasswordHashingExecutor(
+            @Value("${application.security.password.hashing-threads:0}") int threads,
+            @Value("${application.security.password.hashing-queue-capacity:64}") int queueCapacity,
+            @Value("${application.security.password.bulk-hashing-threads:0}") int bulkThreads) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int poolSize = threads > 0 ? threads : processors;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory("password-hash-", Thread.NORM_PRIORITY),
+                new ThreadPoolExecutor.AbortPolicy());
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, processors / 2);
+        this.bulkExecutor = new ThreadPoolExecutor(bulkPoolSize, bulkPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory("password-hash-bulk-", Thread.MIN_PRIORITY));
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many concurrent sign-ins, please retry shortly");
+        }
+    }
+
+    // For bulk jobs: queued without limit on the bulk pool, never on the sign-in pool
+    public <T> CompletableFuture<T> submitBulk(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, bulkExecutor);
+    }
+
+    public int bulkParallelism() {
+        return bulkExecutor.getMaximumPoolSize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+
+    private static ThreadFactory threadFactory(String prefix, int priority) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        };
+    }
+}
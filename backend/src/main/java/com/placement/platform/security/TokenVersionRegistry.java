@@ -0,0 +1,55 @@
+package com.placement.platform.security;
+
+import com.placement.platform.repository.UserRepository;
+import com.placement.platform.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * In-memory table of the current token version per user. A token is accepted
+ * only while the version it was minted with matches this table, so bumping a
+ * user's version through {@link #revoke(UUID)} invalidates every token issued
+ * before a role or password change. Entries are loaded from the database on
+ * first use and then served from memory for at most the configured TTL,
+ * which bounds how long a lookup racing a revocation can keep the old version.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final int UNKNOWN_USER = -1;
+
+    private final UserRepository userRepository;
+    private final BoundedCache<UUID, Integer> versions;
+
+    public TokenVersionRegistry(UserRepository userRepository,
+            @Value("${application.security.jwt.token-version-cache-size:100000}") int cacheSize,
+            @Value("${application.security.jwt.token-version-ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.versions = new BoundedCache<>(cacheSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        Integer current = versions.computeIfAbsent(userId,
+                id -> userRepository.findTokenVersionById(id).orElse(UNKNOWN_USER));
+        return current != UNKNOWN_USER && current == tokenVersion;
+    }
+
+    // The cached version is dropped only after commit; dropping it earlier lets a
+    // concurrent lookup reload and cache the old version again
+    @Transactional
+    public void revoke(UUID userId) {
+        userRepository.incrementTokenVersion(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.invalidate(userId);
+            }
+        });
+    }
+}
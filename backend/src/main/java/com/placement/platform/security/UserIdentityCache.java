@@ -0,0 +1,36 @@
+package com.placement.platform.security;
+
+import com.placement.platform.repository.UserRepository;
+import com.placement.platform.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Bounded email -> identity cache for the few paths that only know a user's email.
+@Component
+public class UserIdentityCache {
+
+    private final UserRepository userRepository;
+    private final BoundedCache<String, AuthenticatedUser> identities;
+
+    public UserIdentityCache(UserRepository userRepository,
+            @Value("${application.security.identity-cache-size:10000}") int cacheSize) {
+        this.userRepository = userRepository;
+        this.identities = new BoundedCache<>(cacheSize, Duration.ofMinutes(10));
+    }
+
+    public AuthenticatedUser resolve(String email) {
+        AuthenticatedUser identity = identities.computeIfAbsent(email,
+                key -> userRepository.findIdentityByEmail(key).orElse(null));
+        if (identity == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return identity;
+    }
+
+    public void invalidate(String email) {
+        identities.invalidate(email);
+    }
+}
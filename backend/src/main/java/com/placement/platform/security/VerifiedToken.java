@@ -0,0 +1,46 @@
+package com.placement.platform.security;
+
+import com.placement.platform.domain.Role;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// Immutable view of a JWT whose signature has already been checked.
+public record VerifiedToken(String subject, Instant issuedAt, Instant expiresAt, Map<String, Object> claims) {
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : Instant.MAX,
+                Collections.unmodifiableMap(new HashMap<>(claims)));
+    }
+
+    // Null for tokens minted before identity claims were added
+    public UUID userId() {
+        Object value = claims.get(USER_ID_CLAIM);
+        return value != null ? UUID.fromString(value.toString()) : null;
+    }
+
+    public Role role() {
+        Object value = claims.get(ROLE_CLAIM);
+        return value != null ? Role.valueOf(value.toString()) : null;
+    }
+
+    public int tokenVersion() {
+        Object value = claims.get(TOKEN_VERSION_CLAIM);
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,90 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Calls an OpenAI-compatible chat completions endpoint. Connections are kept
+ * alive and reused by one shared JDK HttpClient, every call is bounded by
+ * connect and read timeouts, and at most max-concurrent-calls are in flight:
+ * beyond that a call fails at once instead of parking another request thread
+ * behind a slow upstream. Callers fall back to canned answers on failure.
+ */
+@Component
+public class AiClient {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final String url;
+    private final String model;
+    private final Semaphore inFlight;
+
+    public AiClient(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper,
+            @Value("${ai.openai.api-key:}") String apiKey,
+            @Value("${ai.openai.url:https://api.openai.com/v1/chat/completions}") String url,
+            @Value("${ai.openai.model:gpt-3.5-turbo}") String model,
+            @Value("${ai.openai.connect-timeout-seconds:5}") long connectTimeoutSeconds,
+            @Value("${ai.openai.read-timeout-seconds:30}") long readTimeoutSeconds,
+            @Value("${ai.openai.max-concurrent-calls:16}") int maxConcurrentCalls) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(readTimeoutSeconds));
+        this.restTemplate = restTemplateBuilder.requestFactory(() -> requestFactory).build();
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.url = url;
+        this.model = model;
+        this.inFlight = new Semaphore(maxConcurrentCalls);
+    }
+
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isBlank() && !apiKey.startsWith("${");
+    }
+
+    // The assistant's reply to a single user message
+    public String complete(String prompt) throws IOException {
+        if (!inFlight.tryAcquire()) {
+            throw new IOException("Too many AI calls in flight");
+        }
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(apiKey);
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            Map<String, Object> requestBody = Map.of(
+                    "model", model,
+                    "messages", List.of(Map.of("role", "user", "content", prompt)));
+            String response = restTemplate.postForObject(url,
+                    new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers), String.class);
+            JsonNode content = objectMapper.readTree(response == null ? "{}" : response)
+                    .path("choices").path(0).path("message").path("content");
+            if (!content.isTextual()) {
+                throw new IOException("AI response has no message content");
+            }
+            return content.asText();
+        } catch (RestClientException e) {
+            throw new IOException("AI call failed: " + e.getMessage(), e);
+        } finally {
+            inFlight.release();
+        }
+    }
+}
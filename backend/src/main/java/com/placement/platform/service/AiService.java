@@ -1,66 +1,39 @@
 package com.placement.platform.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiService {
 
-    @Value("${ai.openai.api-key:}")
-    private String apiKey;
-
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AiClient aiClient;
+    private final ObjectMapper objectMapper;
 
     public Map<String, Object> analyzeResume(String resumeText) {
-        if (apiKey == null || apiKey.isEmpty() || apiKey.startsWith("${")) {
+        if (!aiClient.isConfigured()) {
             return getMockAnalysis();
         }
 
         try {
             return callOpenAi(resumeText);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("Resume analysis fell back to the mock: {}", e.getMessage());
             return getMockAnalysis(); // Fallback to mock on error
         }
     }
 
     private Map<String, Object> callOpenAi(String text) throws Exception {
-        String url = "https://api.openai.com/v1/chat/completions";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        // Build JSON using Map to avoid manual string manipulation or org.json
-        Map<String, Object> userMessage = new HashMap<>();
-        userMessage.put("role", "user");
-        userMessage.put("content",
+        String content = aiClient.complete(
                 "Analyze this resume content and provide a JSON response with fields: score (0-100), keySkills (list), improvements (list), and summary. Content: "
                         + text.substring(0, Math.min(text.length(), 2000)));
 
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-3.5-turbo");
-        requestBody.put("messages", java.util.List.of(userMessage));
-
-        String jsonRequest = objectMapper.writeValueAsString(requestBody);
-
-        HttpEntity<String> entity = new HttpEntity<>(jsonRequest, headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-
-        JsonNode rootNode = objectMapper.readTree(response.getBody());
-        String content = rootNode.path("choices").get(0).path("message").path("content").asText();
-
         // Naive parsing assuming AI returns JSON string
         Map<String, Object> result = new HashMap<>();
         try {
@@ -90,40 +63,20 @@ public class AiService {
     }
 
     public Map<String, Object> chat(String message) {
-        if (apiKey == null || apiKey.isEmpty() || apiKey.startsWith("${")) {
+        if (!aiClient.isConfigured()) {
             return getMockChat(message);
         }
 
         try {
             return callOpenAiChat(message);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("Chat fell back to the mock: {}", e.getMessage());
             return getMockChat(message);
         }
     }
 
     private Map<String, Object> callOpenAiChat(String message) throws Exception {
-        String url = "https://api.openai.com/v1/chat/completions";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        Map<String, Object> userMessage = new HashMap<>();
-        userMessage.put("role", "user");
-        userMessage.put("content", message);
-
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-3.5-turbo");
-        requestBody.put("messages", java.util.List.of(userMessage));
-
-        String jsonRequest = objectMapper.writeValueAsString(requestBody);
-        HttpEntity<String> entity = new HttpEntity<>(jsonRequest, headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-
-        JsonNode rootNode = objectMapper.readTree(response.getBody());
-        String content = rootNode.path("choices").get(0).path("message").path("content").asText();
+        String content = aiClient.complete(message);
 
         Map<String, Object> result = new HashMap<>();
         result.put("message", content);
@@ -147,43 +100,23 @@ public class AiService {
     }
 
     public Map<String, Object> getContestRecommendations(String query) {
-        if (apiKey == null || apiKey.isEmpty() || apiKey.startsWith("${")) {
+        if (!aiClient.isConfigured()) {
             return getMockContestRecommendations(query);
         }
 
         try {
             return callOpenAiContestSearch(query);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("Contest recommendations fell back to the mock: {}", e.getMessage());
             return getMockContestRecommendations(query);
         }
     }
 
     private Map<String, Object> callOpenAiContestSearch(String query) throws Exception {
-        String url = "https://api.openai.com/v1/chat/completions";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        Map<String, Object> userMessage = new HashMap<>();
-        userMessage.put("role", "user");
-        userMessage.put("content",
+        String content = aiClient.complete(
                 "Recommend 3-5 coding contests (platform, name, link) for a user interested in: " + query
                         + ". Return ONLY a JSON object with a 'recommendations' key containing a list of objects with fields: 'name', 'platform', 'link', 'description'.");
 
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-3.5-turbo");
-        requestBody.put("messages", java.util.List.of(userMessage));
-
-        String jsonRequest = objectMapper.writeValueAsString(requestBody);
-        HttpEntity<String> entity = new HttpEntity<>(jsonRequest, headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-
-        JsonNode rootNode = objectMapper.readTree(response.getBody());
-        String content = rootNode.path("choices").get(0).path("message").path("content").asText();
-
         try {
             return objectMapper.readValue(content, Map.class);
         } catch (Exception e) {
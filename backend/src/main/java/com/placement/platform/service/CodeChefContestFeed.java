@@ -0,0 +1,55 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.platform.domain.Contest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Running and future contests; start dates are ISO-8601 with an offset, durations are minutes
+@Component
+public class CodeChefContestFeed extends HttpContestFeed {
+
+    public CodeChefContestFeed(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper,
+            @Value("${application.contests.sync.codechef-url:https://www.codechef.com/api/list/contests/all}") String url) {
+        super(restTemplateBuilder, objectMapper, url);
+    }
+
+    @Override
+    public String platform() {
+        return "CodeChef";
+    }
+
+    @Override
+    protected List<Contest> parse(JsonNode root) throws IOException {
+        List<Contest> contests = new ArrayList<>();
+        for (String section : List.of("present_contests", "future_contests")) {
+            for (JsonNode contest : root.path(section)) {
+                String code = contest.path("contest_code").asText();
+                try {
+                    contests.add(Contest.builder()
+                            .externalId("codechef:" + code)
+                            .name(contest.path("contest_name").asText())
+                            .platform(platform())
+                            .link("https://www.codechef.com/" + code)
+                            .startTime(OffsetDateTime.parse(contest.path("contest_start_date_iso").asText())
+                                    .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime())
+                            .duration(describe(Duration.ofMinutes(contest.path("contest_duration").asLong())))
+                            .build());
+                } catch (DateTimeParseException e) {
+                    throw new IOException("CodeChef contest " + code + " has an unreadable start date", e);
+                }
+            }
+        }
+        return contests;
+    }
+}
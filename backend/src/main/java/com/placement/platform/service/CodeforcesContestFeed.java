@@ -0,0 +1,51 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.platform.domain.Contest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// contest.list returns the whole archive; only rounds that have not finished are kept
+@Component
+public class CodeforcesContestFeed extends HttpContestFeed {
+
+    public CodeforcesContestFeed(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper,
+            @Value("${application.contests.sync.codeforces-url:https://codeforces.com/api/contest.list?gym=false}") String url) {
+        super(restTemplateBuilder, objectMapper, url);
+    }
+
+    @Override
+    public String platform() {
+        return "Codeforces";
+    }
+
+    @Override
+    protected List<Contest> parse(JsonNode root) throws IOException {
+        if (!"OK".equals(root.path("status").asText())) {
+            throw new IOException("Codeforces contest feed returned " + root.path("comment").asText("an error"));
+        }
+        List<Contest> contests = new ArrayList<>();
+        for (JsonNode contest : root.path("result")) {
+            if ("FINISHED".equals(contest.path("phase").asText()) || !contest.hasNonNull("startTimeSeconds")) {
+                continue;
+            }
+            long id = contest.path("id").asLong();
+            contests.add(Contest.builder()
+                    .externalId("codeforces:" + id)
+                    .name(contest.path("name").asText())
+                    .platform(platform())
+                    .link("https://codeforces.com/contests/" + id)
+                    .startTime(fromEpochSeconds(contest.path("startTimeSeconds").asLong()))
+                    .duration(describe(Duration.ofSeconds(contest.path("durationSeconds").asLong())))
+                    .build());
+        }
+        return contests;
+    }
+}
@@ -0,0 +1,260 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Role;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.CohortSummary;
+import com.placement.platform.dto.QuestionSolveRate;
+import com.placement.platform.dto.TopicCompletion;
+import com.placement.platform.event.ProfileUpdatedEvent;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.event.StudentRegisteredEvent;
+import com.placement.platform.repository.ProfileRepository;
+import com.placement.platform.repository.ProfileRepository.CohortMembership;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.UserQuestionStatus;
+import com.placement.platform.util.RoaringBitmap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Cohort analytics for placement officers. Every user gets a dense ordinal;
+ * each question keeps a {@link RoaringBitmap} of the ordinals that solved it,
+ * and each graduation year and university keeps a bitmap of its students.
+ * "How many of the 2026 batch solved every DP question" is then an
+ * intersection of a handful of bitmaps, and a solve rate is one intersection
+ * cardinality per question. Students are the users with the STUDENT role,
+ * whether or not they have filled in a profile. The bitmaps are loaded once
+ * at startup and kept current from registration, progress and profile events.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CohortAnalyticsService {
+
+    private record Membership(Integer graduationYear, String university) {
+    }
+
+    private final DsaService dsaService;
+    private final ProfileRepository profileRepository;
+    private final UserProgressRepository userProgressRepository;
+    private final ProgressStatistics progressStatistics;
+
+    @Value("${application.analytics.max-results:200}")
+    private int maxResults;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final Map<Integer, Membership> memberships = new HashMap<>();
+    private RoaringBitmap students = new RoaringBitmap();
+    private final Map<Integer, RoaringBitmap> byGraduationYear = new HashMap<>();
+    private final Map<String, RoaringBitmap> byUniversity = new HashMap<>();
+    private final Map<UUID, RoaringBitmap> solvers = new HashMap<>();
+
+    // Progress writes are paused while the rows are read, so no event is both in them and applied on top
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        progressStatistics.withWritesPaused(() -> {
+            lock.writeLock().lock();
+            try {
+                ordinals.clear();
+                memberships.clear();
+                students = new RoaringBitmap();
+                byGraduationYear.clear();
+                byUniversity.clear();
+                solvers.clear();
+                try (Stream<CohortMembership> rows = profileRepository.streamCohortMemberships(Role.STUDENT)) {
+                    rows.forEach(row -> join(row.getUserId(), row.getGraduationYear(), row.getUniversity()));
+                }
+                try (Stream<UserQuestionStatus> rows = userProgressRepository.streamStartedProgress()) {
+                    rows.filter(row -> row.getStatus() == Status.SOLVED)
+                            .forEach(row -> solversOf(row.getQuestionId()).add(ordinalOf(row.getUserId())));
+                }
+                log.info("Cohort analytics loaded {} students and solvers for {} questions", students.cardinality(),
+                        solvers.size());
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onProgressChanged(ProgressChangedEvent event) {
+        if (event.current() != Status.SOLVED && event.previous() != Status.SOLVED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.current() == Status.SOLVED) {
+                solversOf(event.questionId()).add(ordinalOf(event.userId()));
+                return;
+            }
+            Integer ordinal = ordinals.get(event.userId());
+            RoaringBitmap questionSolvers = solvers.get(event.questionId());
+            if (ordinal != null && questionSolvers != null) {
+                questionSolvers.remove(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onStudentRegistered(StudentRegisteredEvent event) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(event.userId());
+            if (ordinal == null || !memberships.containsKey(ordinal)) {
+                join(event.userId(), null, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onProfileUpdated(ProfileUpdatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            // Admins can have profiles too; only students belong to a cohort
+            Integer ordinal = ordinals.get(event.userId());
+            if (ordinal != null && memberships.containsKey(ordinal)) {
+                join(event.userId(), event.graduationYear(), event.university());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public CohortSummary cohort(Integer graduationYear, String university) {
+        lock.readLock().lock();
+        try {
+            return new CohortSummary(graduationYear, university, cohortOf(graduationYear, university).cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public TopicCompletion topicCompletion(String topic, Integer graduationYear, String university) {
+        List<Question> questions = dsaService.catalog().select(topic, null);
+        if (questions.isEmpty()) {
+            throw new RuntimeException("Topic not found");
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap cohort = cohortOf(graduationYear, university);
+            List<RoaringBitmap> topicSolvers = new ArrayList<>(questions.size());
+            for (Question question : questions) {
+                topicSolvers.add(solvers.getOrDefault(question.getId(), new RoaringBitmap()));
+            }
+            // Rarest question first keeps every intermediate intersection as small as possible
+            topicSolvers.sort(Comparator.comparingLong(RoaringBitmap::cardinality));
+            RoaringBitmap solvedAll = cohort;
+            for (RoaringBitmap questionSolvers : topicSolvers) {
+                if (solvedAll.isEmpty()) {
+                    break;
+                }
+                solvedAll = RoaringBitmap.and(solvedAll, questionSolvers);
+            }
+            RoaringBitmap solvedAny = new RoaringBitmap();
+            topicSolvers.forEach(solvedAny::or);
+            return new TopicCompletion(topic, questions.size(), cohort.cardinality(), solvedAll.cardinality(),
+                    RoaringBitmap.andCardinality(cohort, solvedAny));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Least-solved questions first; maxRate (0..1) keeps only the ones at or below it
+    public List<QuestionSolveRate> solveRates(Integer graduationYear, String university, String topic,
+            Double maxRate, Integer limit) {
+        int size = limit == null ? 50 : Math.max(1, Math.min(limit, maxResults));
+        List<Question> questions = dsaService.catalog().select(topic, null);
+        List<QuestionSolveRate> rates = new ArrayList<>(questions.size());
+        lock.readLock().lock();
+        try {
+            RoaringBitmap cohort = cohortOf(graduationYear, university);
+            long cohortSize = cohort.cardinality();
+            for (Question question : questions) {
+                RoaringBitmap questionSolvers = solvers.get(question.getId());
+                long solved = questionSolvers == null ? 0 : RoaringBitmap.andCardinality(cohort, questionSolvers);
+                double rate = cohortSize == 0 ? 0 : (double) solved / cohortSize;
+                if (maxRate == null || rate <= maxRate) {
+                    rates.add(new QuestionSolveRate(question.getId(), question.getTitle(), question.getTopic(),
+                            question.getDifficulty(), solved, rate));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        rates.sort(Comparator.comparingDouble(QuestionSolveRate::rate).thenComparing(QuestionSolveRate::title));
+        return rates.size() > size ? List.copyOf(rates.subList(0, size)) : rates;
+    }
+
+    // Callers hold the read lock; the unfiltered cohort is returned as is and must not be modified
+    private RoaringBitmap cohortOf(Integer graduationYear, String university) {
+        String universityKey = normalize(university);
+        RoaringBitmap year = graduationYear == null ? null
+                : byGraduationYear.getOrDefault(graduationYear, new RoaringBitmap());
+        RoaringBitmap campus = universityKey == null ? null
+                : byUniversity.getOrDefault(universityKey, new RoaringBitmap());
+        if (year != null && campus != null) {
+            return RoaringBitmap.and(year, campus);
+        }
+        return year != null ? year : campus != null ? campus : students;
+    }
+
+    private void join(UUID userId, Integer graduationYear, String university) {
+        int ordinal = ordinalOf(userId);
+        students.add(ordinal);
+        Membership updated = new Membership(graduationYear, normalize(university));
+        Membership previous = memberships.put(ordinal, updated);
+        if (previous != null) {
+            if (previous.graduationYear() != null) {
+                byGraduationYear.get(previous.graduationYear()).remove(ordinal);
+            }
+            if (previous.university() != null) {
+                byUniversity.get(previous.university()).remove(ordinal);
+            }
+        }
+        if (updated.graduationYear() != null) {
+            byGraduationYear.computeIfAbsent(updated.graduationYear(), year -> new RoaringBitmap()).add(ordinal);
+        }
+        if (updated.university() != null) {
+            byUniversity.computeIfAbsent(updated.university(), key -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    private int ordinalOf(UUID userId) {
+        return ordinals.computeIfAbsent(userId, id -> ordinals.size());
+    }
+
+    private RoaringBitmap solversOf(UUID questionId) {
+        return solvers.computeIfAbsent(questionId, id -> new RoaringBitmap());
+    }
+
+    private static String normalize(String university) {
+        if (university == null || university.isBlank()) {
+            return null;
+        }
+        return university.trim().toLowerCase(Locale.ROOT);
+    }
+}
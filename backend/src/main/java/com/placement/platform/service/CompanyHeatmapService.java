@@ -0,0 +1,214 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.dto.CompanyHeatmap;
+import com.placement.platform.dto.TopicHeat;
+import com.placement.platform.dto.TopicOverlap;
+import com.placement.platform.event.InterviewQuestionAddedEvent;
+import com.placement.platform.repository.CompanyRepository;
+import com.placement.platform.repository.InterviewQuestionRepository;
+import com.placement.platform.repository.InterviewQuestionRepository.HeatmapCell;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-company histograms of interview questions by topic, difficulty and
+ * frequency. Each company's histogram is an immutable snapshot that an added
+ * question replaces with an updated copy, so reads and cross-company
+ * comparisons never lock or query. Topics are matched case-insensitively.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompanyHeatmapService {
+
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final String NO_DIFFICULTY = "UNSPECIFIED";
+    private static final String[] FREQUENCIES = { "High", "Medium", "Low", "Other" };
+    private static final String NO_TOPIC = "General";
+    private static final int CELLS = (DIFFICULTIES.length + 1) * FREQUENCIES.length;
+
+    private record TopicCells(String label, int[] cells, int total) {
+    }
+
+    private record Heatmap(Map<String, TopicCells> topics, int total) {
+
+        static final Heatmap EMPTY = new Heatmap(Map.of(), 0);
+
+        Heatmap plus(String topic, int cell, int count) {
+            Map<String, TopicCells> updated = new HashMap<>(topics);
+            TopicCells previous = updated.get(key(topic));
+            int[] cells = previous == null ? new int[CELLS] : previous.cells().clone();
+            cells[cell] += count;
+            updated.put(key(topic), new TopicCells(previous == null ? label(topic) : previous.label(), cells,
+                    (previous == null ? 0 : previous.total()) + count));
+            return new Heatmap(Collections.unmodifiableMap(updated), total + count);
+        }
+    }
+
+    private final InterviewQuestionRepository interviewQuestionRepository;
+    private final CompanyRepository companyRepository;
+    private final CompanyService companyService;
+
+    @Value("${application.companies.max-compared:10}")
+    private int maxCompared;
+
+    private final Object writeLock = new Object();
+    private volatile Map<UUID, Heatmap> heatmaps = new ConcurrentHashMap<>();
+
+    // Question writes are paused while the counts are read, so no event is both in them and applied on top
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        companyService.withQuestionWritesPaused(() -> {
+            Map<UUID, Map<String, int[]>> counts = new HashMap<>();
+            // Each topic is shown with the spelling most of its questions use
+            Map<String, Map<String, Long>> spellings = new HashMap<>();
+            for (HeatmapCell row : interviewQuestionRepository.countByCompanyTopicDifficultyAndFrequency()) {
+                spellings.computeIfAbsent(key(row.getTopic()), topic -> new HashMap<>())
+                        .merge(label(row.getTopic()), row.getQuestions(), Long::sum);
+                counts.computeIfAbsent(row.getCompanyId(), id -> new HashMap<>())
+                        .computeIfAbsent(key(row.getTopic()), topic -> new int[CELLS])
+                        [cell(row.getDifficulty(), row.getFrequency())] += (int) row.getQuestions();
+            }
+            Map<String, String> labels = new HashMap<>();
+            spellings.forEach((topic, byLabel) -> labels.put(topic, byLabel.entrySet().stream()
+                    .max(Map.Entry.<String, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                    .orElseThrow().getKey()));
+            Map<UUID, Heatmap> rebuilt = new ConcurrentHashMap<>();
+            counts.forEach((companyId, topics) -> {
+                Map<String, TopicCells> cells = new HashMap<>();
+                int companyTotal = 0;
+                for (Map.Entry<String, int[]> topic : topics.entrySet()) {
+                    int total = 0;
+                    for (int count : topic.getValue()) {
+                        total += count;
+                    }
+                    cells.put(topic.getKey(), new TopicCells(labels.get(topic.getKey()), topic.getValue(), total));
+                    companyTotal += total;
+                }
+                rebuilt.put(companyId, new Heatmap(Collections.unmodifiableMap(cells), companyTotal));
+            });
+            synchronized (writeLock) {
+                heatmaps = rebuilt;
+            }
+            log.info("Company heatmaps built for {} companies", rebuilt.size());
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onInterviewQuestionAdded(InterviewQuestionAddedEvent event) {
+        InterviewQuestion question = event.question();
+        if (question.getCompany() == null || question.getCompany().getId() == null) {
+            return;
+        }
+        int cell = cell(question.getDifficulty(), question.getFrequency());
+        synchronized (writeLock) {
+            heatmaps.compute(question.getCompany().getId(),
+                    (id, existing) -> (existing == null ? Heatmap.EMPTY : existing).plus(question.getTopic(), cell, 1));
+        }
+    }
+
+    public CompanyHeatmap heatmap(UUID companyId) {
+        Heatmap heatmap = find(companyId);
+        List<TopicHeat> topics = new ArrayList<>(heatmap.topics().size());
+        heatmap.topics().values().stream()
+                .sorted(Comparator.comparingInt(TopicCells::total).reversed().thenComparing(TopicCells::label))
+                .forEach(topic -> topics.add(new TopicHeat(topic.label(), topic.total(), cells(topic.cells()))));
+        return new CompanyHeatmap(companyId, heatmap.total(), topics);
+    }
+
+    // Topics every given company asks about, the ones with the most questions at the least active company first
+    public List<TopicOverlap> commonTopics(List<UUID> companyIds) {
+        List<UUID> ids = companyIds == null ? List.of() : companyIds.stream().distinct().toList();
+        if (ids.size() < 2 || ids.size() > maxCompared) {
+            throw new RuntimeException("Compare between 2 and " + maxCompared + " companies");
+        }
+        List<Heatmap> selected = new ArrayList<>(ids.size());
+        Heatmap smallest = null;
+        for (UUID id : ids) {
+            Heatmap heatmap = find(id);
+            selected.add(heatmap);
+            if (smallest == null || heatmap.topics().size() < smallest.topics().size()) {
+                smallest = heatmap;
+            }
+        }
+        record Common(TopicOverlap overlap, int least) {
+        }
+        List<Common> common = new ArrayList<>();
+        for (Map.Entry<String, TopicCells> topic : smallest.topics().entrySet()) {
+            Map<UUID, Integer> counts = new LinkedHashMap<>();
+            int least = Integer.MAX_VALUE;
+            for (int i = 0; i < ids.size() && counts.size() == i; i++) {
+                TopicCells cells = selected.get(i).topics().get(topic.getKey());
+                if (cells != null) {
+                    counts.put(ids.get(i), cells.total());
+                    least = Math.min(least, cells.total());
+                }
+            }
+            if (counts.size() == ids.size()) {
+                common.add(new Common(new TopicOverlap(topic.getValue().label(), counts), least));
+            }
+        }
+        return common.stream()
+                .sorted(Comparator.comparingInt(Common::least).reversed()
+                        .thenComparing(item -> item.overlap().topic()))
+                .map(Common::overlap)
+                .toList();
+    }
+
+    private Heatmap find(UUID companyId) {
+        Heatmap heatmap = heatmaps.get(companyId);
+        if (heatmap != null) {
+            return heatmap;
+        }
+        if (!companyRepository.existsById(companyId)) {
+            throw new RuntimeException("Company not found");
+        }
+        return Heatmap.EMPTY;
+    }
+
+    private static Map<String, Map<String, Integer>> cells(int[] cells) {
+        Map<String, Map<String, Integer>> byDifficulty = new LinkedHashMap<>();
+        for (int difficulty = 0; difficulty <= DIFFICULTIES.length; difficulty++) {
+            for (int frequency = 0; frequency < FREQUENCIES.length; frequency++) {
+                int count = cells[difficulty * FREQUENCIES.length + frequency];
+                if (count > 0) {
+                    byDifficulty.computeIfAbsent(difficulty < DIFFICULTIES.length
+                            ? DIFFICULTIES[difficulty].name() : NO_DIFFICULTY, key -> new LinkedHashMap<>())
+                            .put(FREQUENCIES[frequency], count);
+                }
+            }
+        }
+        return byDifficulty;
+    }
+
+    private static int cell(Difficulty difficulty, String frequency) {
+        int row = difficulty == null ? DIFFICULTIES.length : difficulty.ordinal();
+        return row * FREQUENCIES.length + CompanyService.frequencyRank(frequency);
+    }
+
+    private static String key(String topic) {
+        return label(topic).toLowerCase(Locale.ROOT);
+    }
+
+    private static String label(String topic) {
+        return topic == null || topic.isBlank() ? NO_TOPIC : topic.trim();
+    }
+}
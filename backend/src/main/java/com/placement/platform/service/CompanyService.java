@@ -2,34 +2,151 @@ package com.placement.platform.service;
 
 import com.placement.platform.domain.Company;
 import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.dto.CompanyDetail;
+import com.placement.platform.dto.InterviewQuestionRow;
+import com.placement.platform.event.InterviewQuestionAddedEvent;
 import com.placement.platform.repository.CompanyRepository;
 import com.placement.platform.repository.InterviewQuestionRepository;
-import lombok.RequiredArgsConstructor;
+import com.placement.platform.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 public class CompanyService {
 
+    // Most frequently asked first, then easiest first within a frequency
+    private static final Comparator<InterviewQuestionRow> RANKING = Comparator
+            .comparingInt((InterviewQuestionRow row) -> frequencyRank(row.frequency()))
+            .thenComparing(InterviewQuestionRow::difficulty, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(InterviewQuestionRow::title, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(InterviewQuestionRow::id);
+
+    private record CompanyQuestions(Company company, List<InterviewQuestionRow> ranked) {
+    }
+
     private final CompanyRepository companyRepository;
     private final InterviewQuestionRepository interviewQuestionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoundedCache<UUID, CompanyQuestions> details;
+    // Bumped on every write so a load that raced with it is not cached
+    private final AtomicLong writes = new AtomicLong();
+    // Shared by each question write until its event is published; exclusive while a read model loads the table
+    private final ReadWriteLock questionWrites = new ReentrantReadWriteLock();
+
+    @Value("${application.companies.max-page-size:100}")
+    private int maxPageSize;
+
+    public CompanyService(CompanyRepository companyRepository,
+            InterviewQuestionRepository interviewQuestionRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${application.companies.detail-cache-size:1000}") int cacheSize) {
+        this.companyRepository = companyRepository;
+        this.interviewQuestionRepository = interviewQuestionRepository;
+        this.eventPublisher = eventPublisher;
+        this.details = new BoundedCache<>(cacheSize);
+    }
 
     public List<Company> getAllCompanies() {
         return companyRepository.findAll();
     }
 
     public Company addCompany(Company company) {
-        return companyRepository.save(company);
+        Company saved = companyRepository.save(company);
+        writes.incrementAndGet();
+        details.invalidate(saved.getId());
+        return saved;
     }
 
     public List<InterviewQuestion> getQuestionsByCompany(UUID companyId) {
         return interviewQuestionRepository.findByCompanyId(companyId);
     }
 
+    public CompanyDetail getCompanyDetail(UUID companyId, Integer offset, Integer limit) {
+        CompanyQuestions cached = details.get(companyId);
+        if (cached == null) {
+            long version = writes.get();
+            Company company = companyRepository.findById(companyId)
+                    .orElseThrow(() -> new RuntimeException("Company not found"));
+            List<InterviewQuestionRow> ranked = new ArrayList<>(interviewQuestionRepository.findRowsByCompanyId(companyId));
+            ranked.sort(RANKING);
+            cached = new CompanyQuestions(company, List.copyOf(ranked));
+            if (writes.get() == version) {
+                details.put(companyId, cached);
+            }
+        }
+        int size = limit == null ? 20 : Math.max(1, Math.min(limit, maxPageSize));
+        int from = offset == null ? 0 : Math.max(0, Math.min(offset, cached.ranked().size()));
+        int to = Math.min(from + size, cached.ranked().size());
+        Company company = cached.company();
+        return new CompanyDetail(company.getId(), company.getName(), company.getIndustry(), company.getDescription(),
+                cached.ranked().size(), cached.ranked().subList(from, to), to < cached.ranked().size());
+    }
+
     public InterviewQuestion addQuestion(InterviewQuestion question) {
-        return interviewQuestionRepository.save(question);
+        questionWrites.readLock().lock();
+        try {
+            InterviewQuestion saved = interviewQuestionRepository.save(question);
+            writes.incrementAndGet();
+            details.invalidate(saved.getCompany().getId());
+            eventPublisher.publishEvent(new InterviewQuestionAddedEvent(saved));
+            return saved;
+        } finally {
+            questionWrites.readLock().unlock();
+        }
+    }
+
+    // For writers that bypass addQuestion: the write must publish its events before returning
+    public void recordQuestionWrites(Runnable write) {
+        questionWrites.readLock().lock();
+        try {
+            write.run();
+        } finally {
+            questionWrites.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a read with no interview question write in flight: every question
+     * saved before it has had its event published, and none is saved until it
+     * returns. For read models that rebuild from interview_questions, so a
+     * rebuild and the events around it neither miss nor double-count a question.
+     */
+    public <T> T withQuestionWritesPaused(Supplier<T> read) {
+        questionWrites.writeLock().lock();
+        try {
+            return read.get();
+        } finally {
+            questionWrites.writeLock().unlock();
+        }
+    }
+
+    // For writers that bypass addQuestion, such as the bulk import
+    public void invalidateCompanyDetail(UUID companyId) {
+        writes.incrementAndGet();
+        details.invalidate(companyId);
+    }
+
+    // 0 High, 1 Medium, 2 Low, 3 anything else
+    static int frequencyRank(String frequency) {
+        if (frequency == null) {
+            return 3;
+        }
+        return switch (frequency.trim().toLowerCase(Locale.ROOT)) {
+            case "high" -> 0;
+            case "medium" -> 1;
+            case "low" -> 2;
+            default -> 3;
+        };
     }
 }
@@ -0,0 +1,22 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Contest;
+
+import java.io.IOException;
+import java.util.List;
+
+// One platform's contest listing; swap in a local stand-in server through the feed's URL property for tests.
+public interface ContestFeed {
+
+    // What the last response looked like, sent back as a conditional request
+    record Validators(String etag, String lastModified, String digest) {
+    }
+
+    // contests is null when the listing has not changed since the validators were issued
+    record Fetch(List<Contest> contests, Validators validators) {
+    }
+
+    String platform();
+
+    Fetch fetch(Validators previous) throws IOException;
+}
@@ -0,0 +1,313 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.platform.dto.ContestView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes contest notices to server-sent event subscribers: "reminder" when a
+ * contest is a reminder window away from starting and "started" when it
+ * starts. One scheduler thread walks the contest schedule each tick and
+ * serializes every notice once; a small writer pool delivers it. Idle
+ * connections hold no thread, only a bounded queue of pending frames, and a
+ * subscriber whose queue is full is disconnected rather than slowing anyone
+ * else down. Clients reconnect when the stream times out or is dropped.
+ * <p>
+ * Servlet writes block, so a client that stops reading can hold a writer in
+ * {@code send} until the container's write timeout fails it. Each tick also
+ * looks for sends running past the send timeout: that subscriber is dropped
+ * and the pool gets a thread in place of the stuck writer until its send
+ * returns. The scheduler never waits on a subscriber.
+ */
+@Slf4j
+@Service
+public class ContestNotificationHub {
+
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long STALLED = Long.MIN_VALUE + 1;
+
+    private final ContestService contestService;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long tickSeconds;
+    private final long heartbeatTicks;
+    private final Duration reminder;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+
+    private final class Subscriber {
+        private final long id;
+        private final String platform;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // System.nanoTime() when the send in progress started, IDLE, or STALLED once it ran past the send timeout
+        private final AtomicLong sendStarted = new AtomicLong(IDLE);
+        // Set when the hub gave up on the stream and its emitter still has to be completed
+        private final AtomicBoolean completePending = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(long id, String platform, SseEmitter emitter) {
+            this.id = id;
+            this.platform = platform;
+            this.emitter = emitter;
+        }
+
+        private void send(Set<DataWithMediaType> frame) throws IOException {
+            sendStarted.set(System.nanoTime());
+            try {
+                emitter.send(frame);
+            } finally {
+                if (sendStarted.getAndSet(IDLE) == STALLED) {
+                    retireWriter();
+                }
+            }
+        }
+    }
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "contest-notify");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadPoolExecutor writers;
+
+    // Touched only on the ticker thread
+    private LocalDateTime lastTick;
+    private long ticks;
+
+    public ContestNotificationHub(ContestService contestService, ObjectMapper objectMapper,
+            @Value("${application.contests.stream.buffer-size:16}") int bufferSize,
+            @Value("${application.contests.stream.writer-threads:4}") int writerThreads,
+            @Value("${application.contests.stream.tick-seconds:5}") long tickSeconds,
+            @Value("${application.contests.stream.heartbeat-seconds:30}") long heartbeatSeconds,
+            @Value("${application.contests.stream.reminder-minutes:15}") long reminderMinutes,
+            @Value("${application.contests.stream.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${application.contests.stream.send-timeout-seconds:10}") long sendTimeoutSeconds) {
+        this.contestService = contestService;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.tickSeconds = tickSeconds;
+        this.heartbeatTicks = Math.max(1, heartbeatSeconds / tickSeconds);
+        this.reminder = Duration.ofMinutes(reminderMinutes);
+        this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+        this.sendTimeoutNanos = TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        AtomicInteger threads = new AtomicInteger();
+        this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "contest-stream-writer-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lastTick = LocalDateTime.now();
+        ticker.scheduleAtFixedRate(this::tickQuietly, tickSeconds, tickSeconds, TimeUnit.SECONDS);
+    }
+
+    // platform limits the stream to one platform's contests; null streams all of them
+    public SseEmitter subscribe(String platform) {
+        return subscribe(platform, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String platform, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), platform, emitter);
+        emitter.onCompletion(() -> ended(subscriber));
+        emitter.onTimeout(() -> ended(subscriber));
+        emitter.onError(error -> ended(subscriber));
+        // Flushes the response headers so the client knows it is connected
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscribers.put(subscriber.id, subscriber);
+        return emitter;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void tickQuietly() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("Contest notification tick failed: {}", e.getMessage());
+        }
+    }
+
+    // Each instant falls in exactly one [lastTick, now) window, so every notice goes out once
+    private void tick() {
+        dropStalled();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = lastTick;
+        lastTick = now;
+        for (ContestView contest : contestService.getContests(from.plus(reminder), now.plus(reminder), null)) {
+            publish("reminder", contest);
+        }
+        for (ContestView contest : contestService.getContests(from, now, null)) {
+            publish("started", contest);
+        }
+        if (++ticks % heartbeatTicks == 0) {
+            // Keeps idle connections open through proxies and finds the ones that went away
+            Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("").build();
+            subscribers.values().forEach(subscriber -> enqueue(subscriber, heartbeat));
+        }
+    }
+
+    private void publish(String name, ContestView contest) {
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(String.valueOf(eventIds.incrementAndGet()))
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(contest))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.platform == null || subscriber.platform.equalsIgnoreCase(contest.platform())) {
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        if (!subscriber.queue.offer(frame)) {
+            if (abandon(subscriber)) {
+                log.debug("Dropped contest stream subscriber {}: {} frames pending ({} dropped so far)",
+                        subscriber.id, subscriber.queue.size(), dropped.incrementAndGet());
+            }
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers.values()) {
+            long started = subscriber.sendStarted.get();
+            if (started == IDLE || started == STALLED || now - started < sendTimeoutNanos) {
+                continue;
+            }
+            // Added before the swap so the stuck writer can never retire a thread that was not added yet
+            addWriter();
+            if (!subscriber.sendStarted.compareAndSet(started, STALLED)) {
+                retireWriter();
+            } else if (abandon(subscriber)) {
+                log.debug("Dropped contest stream subscriber {}: send stalled ({} dropped so far)", subscriber.id,
+                        dropped.incrementAndGet());
+            }
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> frame;
+            while (!subscriber.closed && (frame = subscriber.queue.poll()) != null) {
+                subscriber.send(frame);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed
+            subscriber.closed = true;
+            subscribers.remove(subscriber.id);
+            subscriber.completePending.set(false);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.closed) {
+            subscriber.queue.clear();
+            // Completed here rather than by whoever gave up on it, so only a writer ever waits on a send
+            if (subscriber.completePending.getAndSet(false)) {
+                subscriber.emitter.complete();
+            }
+            return;
+        }
+        // A frame may have been queued after the last poll but before draining was cleared
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // Hands the emitter to a writer to complete; false if the subscriber was already gone
+    private boolean abandon(Subscriber subscriber) {
+        if (subscribers.remove(subscriber.id) == null) {
+            return false;
+        }
+        subscriber.closed = true;
+        subscriber.completePending.set(true);
+        scheduleDrain(subscriber);
+        return true;
+    }
+
+    // The emitter completed, timed out or failed; Spring 6.1.1 marks it complete outside its own lock, so
+    // taking the lock here waits out a send already under way before the container recycles the response,
+    // and any later send sees the emitter as complete and fails instead of writing into that response
+    private void ended(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber.id);
+        synchronized (subscriber.emitter) {
+            subscriber.completePending.set(false);
+        }
+    }
+
+    // Stands in for a writer stuck in a stalled send until that send returns
+    private synchronized void addWriter() {
+        writers.setMaximumPoolSize(writers.getMaximumPoolSize() + 1);
+        writers.setCorePoolSize(writers.getCorePoolSize() + 1);
+    }
+
+    private synchronized void retireWriter() {
+        writers.setCorePoolSize(writers.getCorePoolSize() - 1);
+        writers.setMaximumPoolSize(writers.getMaximumPoolSize() - 1);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+        writers.shutdownNow();
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+    }
+}
@@ -0,0 +1,186 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Contest;
+import com.placement.platform.domain.ContestStatus;
+import com.placement.platform.dto.ContestView;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable snapshot of the contest calendar, indexed by start time. Each
+ * contest's listed duration is parsed once, so its end time is known and its
+ * status is derived from the clock on every read instead of being stored.
+ * Contests running at a given moment started at most the longest duration
+ * before it, which bounds the range a "live now" query has to scan.
+ */
+public final class ContestSchedule {
+
+    // Most rated rounds run about two hours; used when the listed duration cannot be read
+    static final Duration DEFAULT_DURATION = Duration.ofHours(2);
+
+    private static final Pattern DURATION_PART = Pattern.compile(
+            "(\\d+(?:\\.\\d+)?)\\s*(days?|d|hours?|hrs?|h|minutes?|mins?|m)(?![a-z])");
+    private static final Pattern CLOCK = Pattern.compile("(\\d+):(\\d{2})");
+
+    private record Scheduled(Contest contest, Duration duration, LocalDateTime endTime) {
+    }
+
+    private final Map<UUID, Contest> byId;
+    private final Map<String, Contest> byExternalId;
+    private final NavigableMap<LocalDateTime, List<Scheduled>> byStart;
+    private final Duration longest;
+    private final int size;
+
+    private ContestSchedule(Map<UUID, Contest> contests) {
+        Map<String, Contest> external = new HashMap<>();
+        NavigableMap<LocalDateTime, List<Scheduled>> starts = new TreeMap<>();
+        Duration max = Duration.ZERO;
+        int count = 0;
+        for (Contest contest : contests.values()) {
+            if (contest.getExternalId() != null) {
+                external.put(contest.getExternalId(), contest);
+            }
+            if (contest.getStartTime() == null) {
+                continue;
+            }
+            Duration duration = parseDuration(contest.getDuration());
+            starts.computeIfAbsent(contest.getStartTime(), start -> new ArrayList<>())
+                    .add(new Scheduled(contest, duration, contest.getStartTime().plus(duration)));
+            if (duration.compareTo(max) > 0) {
+                max = duration;
+            }
+            count++;
+        }
+        starts.values().forEach(sameStart -> sameStart.sort(Comparator.comparing(
+                (Scheduled scheduled) -> scheduled.contest().getName(), Comparator.nullsLast(Comparator.naturalOrder()))));
+        this.byId = contests;
+        this.byExternalId = external;
+        this.byStart = starts;
+        this.longest = max;
+        this.size = count;
+    }
+
+    public static ContestSchedule of(Collection<Contest> contests) {
+        Map<UUID, Contest> byId = new LinkedHashMap<>();
+        contests.forEach(contest -> byId.put(contest.getId(), contest));
+        return new ContestSchedule(byId);
+    }
+
+    /**
+     * A new snapshot with the given contests added or, when their id is already
+     * known, replaced. Nothing is ever removed: feeds only list recent and
+     * upcoming rounds, so a contest missing from a listing has usually just
+     * rolled off after ending and is kept as history. Ended contests cost
+     * nothing on the "not ended" and "live" paths, which start their scan at
+     * the longest duration before now.
+     */
+    public ContestSchedule with(Collection<Contest> changed) {
+        Map<UUID, Contest> merged = new LinkedHashMap<>(byId);
+        changed.forEach(contest -> merged.put(contest.getId(), contest));
+        return new ContestSchedule(merged);
+    }
+
+    public Contest byExternalId(String externalId) {
+        return byExternalId.get(externalId);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Contests starting in [from, to), either bound optional, earliest first
+    public List<ContestView> startingBetween(LocalDateTime from, LocalDateTime to, String platform,
+            LocalDateTime now) {
+        NavigableMap<LocalDateTime, List<Scheduled>> range = byStart;
+        if (from != null && to != null) {
+            range = from.isBefore(to) ? byStart.subMap(from, true, to, false) : new TreeMap<>();
+        } else if (from != null) {
+            range = byStart.tailMap(from, true);
+        } else if (to != null) {
+            range = byStart.headMap(to, false);
+        }
+        return views(range, platform, now, false);
+    }
+
+    // Contests that have not ended yet: the ones running now, then the upcoming ones
+    public List<ContestView> notEnded(String platform, LocalDateTime now) {
+        return views(byStart.tailMap(now.minus(longest), false), platform, now, true);
+    }
+
+    public List<ContestView> live(String platform, LocalDateTime now) {
+        return views(byStart.subMap(now.minus(longest), false, now, true), platform, now, true);
+    }
+
+    private static List<ContestView> views(NavigableMap<LocalDateTime, List<Scheduled>> range, String platform,
+            LocalDateTime now, boolean runningOrLater) {
+        List<ContestView> views = new ArrayList<>();
+        for (List<Scheduled> sameStart : range.values()) {
+            for (Scheduled scheduled : sameStart) {
+                Contest contest = scheduled.contest();
+                if (platform != null && !platform.equalsIgnoreCase(contest.getPlatform())) {
+                    continue;
+                }
+                if (runningOrLater && !scheduled.endTime().isAfter(now)) {
+                    continue;
+                }
+                views.add(new ContestView(contest.getId(), contest.getName(), contest.getPlatform(),
+                        contest.getLink(), contest.getStartTime(), scheduled.endTime(), contest.getDuration(),
+                        scheduled.duration().toMinutes(), status(contest.getStartTime(), scheduled.endTime(), now)));
+            }
+        }
+        return views;
+    }
+
+    private static ContestStatus status(LocalDateTime start, LocalDateTime end, LocalDateTime now) {
+        if (now.isBefore(start)) {
+            return ContestStatus.UPCOMING;
+        }
+        return now.isBefore(end) ? ContestStatus.ONGOING : ContestStatus.ENDED;
+    }
+
+    // Reads "1.5 Hours", "2h 30m", "90 minutes", "2:30" and ISO-8601 such as "PT2H"
+    static Duration parseDuration(String text) {
+        if (text == null || text.isBlank()) {
+            return DEFAULT_DURATION;
+        }
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        if (value.startsWith("p")) {
+            try {
+                Duration parsed = Duration.parse(value.toUpperCase(Locale.ROOT));
+                return parsed.isNegative() || parsed.isZero() ? DEFAULT_DURATION : parsed;
+            } catch (DateTimeParseException e) {
+                return DEFAULT_DURATION;
+            }
+        }
+        Matcher clock = CLOCK.matcher(value);
+        if (clock.matches()) {
+            return Duration.ofHours(Long.parseLong(clock.group(1))).plusMinutes(Long.parseLong(clock.group(2)));
+        }
+        double minutes = 0;
+        Matcher part = DURATION_PART.matcher(value);
+        while (part.find()) {
+            double amount = Double.parseDouble(part.group(1));
+            minutes += switch (part.group(2).charAt(0)) {
+                case 'd' -> amount * 24 * 60;
+                case 'h' -> amount * 60;
+                default -> amount;
+            };
+        }
+        return minutes >= 1 ? Duration.ofMinutes(Math.round(minutes)) : DEFAULT_DURATION;
+    }
+}
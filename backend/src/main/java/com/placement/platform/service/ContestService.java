@@ -1,52 +1,141 @@
 package com.placement.platform.service;
 
 import com.placement.platform.domain.Contest;
+import com.placement.platform.dto.ContestView;
 import com.placement.platform.repository.ContestRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
+/**
+ * Serves the contest calendar from a {@link ContestSchedule} snapshot, so
+ * reads never touch the database. Feed updates are diffed against the
+ * snapshot; only new or changed contests are written, and the next snapshot
+ * is published once they are stored. Readers keep using the previous one
+ * until then and never wait on a write.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ContestService {
 
+    private static final String INSERT_CONTEST = "INSERT INTO contests "
+            + "(id, external_id, name, platform, link, start_time, duration) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_CONTEST = "UPDATE contests "
+            + "SET name = ?, platform = ?, link = ?, start_time = ?, duration = ? WHERE id = ?";
+
+    public record Upserted(int inserted, int updated) {
+    }
+
     private final ContestRepository contestRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.contests.max-range-days:90}")
+    private int maxRangeDays;
+
+    private final Object scheduleLock = new Object();
+    private volatile ContestSchedule schedule;
+
+    public ContestService(ContestRepository contestRepository, JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate) {
+        this.contestRepository = contestRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        synchronized (scheduleLock) {
+            schedule = ContestSchedule.of(contestRepository.findAll());
+            log.info("Contest schedule loaded: {} contests", schedule.size());
+        }
+    }
+
+    // Without bounds: everything that has not ended yet
+    public List<ContestView> getContests(LocalDateTime from, LocalDateTime to, String platform) {
+        LocalDateTime now = LocalDateTime.now();
+        if (from == null && to == null) {
+            return schedule().notEnded(platform, now);
+        }
+        return schedule().startingBetween(from, to, platform, now);
+    }
+
+    public List<ContestView> getUpcoming(Integer days, String platform) {
+        LocalDateTime now = LocalDateTime.now();
+        int window = days == null ? 7 : Math.max(1, Math.min(days, maxRangeDays));
+        return schedule().startingBetween(now, now.plusDays(window), platform, now);
+    }
+
+    public List<ContestView> getLive(String platform) {
+        return schedule().live(platform, LocalDateTime.now());
+    }
 
-    public List<Contest> getAllContests() {
-        if (contestRepository.count() == 0) {
-            seedMockContests();
+    // Contests are matched on externalId; ones missing from the listing are left alone
+    public Upserted upsert(List<Contest> listed) {
+        Map<String, Contest> byExternalId = new LinkedHashMap<>();
+        listed.forEach(contest -> byExternalId.put(contest.getExternalId(), contest));
+        synchronized (scheduleLock) {
+            ContestSchedule current = schedule();
+            List<Contest> inserted = new ArrayList<>();
+            List<Contest> updated = new ArrayList<>();
+            for (Contest contest : byExternalId.values()) {
+                Contest existing = current.byExternalId(contest.getExternalId());
+                if (existing == null) {
+                    contest.setId(UUID.randomUUID());
+                    inserted.add(contest);
+                } else if (!sameListing(existing, contest)) {
+                    contest.setId(existing.getId());
+                    updated.add(contest);
+                }
+            }
+            if (inserted.isEmpty() && updated.isEmpty()) {
+                return new Upserted(0, 0);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_CONTEST, inserted.stream().map(contest -> new Object[] {
+                        contest.getId(), contest.getExternalId(), contest.getName(), contest.getPlatform(),
+                        contest.getLink(), contest.getStartTime(), contest.getDuration() }).toList());
+                jdbcTemplate.batchUpdate(UPDATE_CONTEST, updated.stream().map(contest -> new Object[] {
+                        contest.getName(), contest.getPlatform(), contest.getLink(), contest.getStartTime(),
+                        contest.getDuration(), contest.getId() }).toList());
+            });
+            List<Contest> changed = new ArrayList<>(inserted);
+            changed.addAll(updated);
+            schedule = current.with(changed);
+            return new Upserted(inserted.size(), updated.size());
         }
-        return contestRepository.findAll();
-    }
-
-    private void seedMockContests() {
-        List<Contest> mocks = List.of(
-                Contest.builder()
-                        .name("Weekly Contest 385")
-                        .platform("LeetCode")
-                        .link("https://leetcode.com/contest/")
-                        .startTime(LocalDateTime.now().plusDays(2))
-                        .duration("1.5 Hours")
-                        .status("UPCOMING")
-                        .build(),
-                Contest.builder()
-                        .name("Starters 118")
-                        .platform("CodeChef")
-                        .link("https://www.codechef.com/")
-                        .startTime(LocalDateTime.now().plusHours(5))
-                        .duration("2 Hours")
-                        .status("UPCOMING")
-                        .build(),
-                Contest.builder()
-                        .name("Codeforces Round 999")
-                        .platform("Codeforces")
-                        .link("https://codeforces.com/")
-                        .startTime(LocalDateTime.now().minusHours(1))
-                        .duration("2 Hours")
-                        .status("ONGOING")
-                        .build());
-        contestRepository.saveAll(mocks);
+    }
+
+    private ContestSchedule schedule() {
+        ContestSchedule current = schedule;
+        if (current == null) {
+            synchronized (scheduleLock) {
+                if (schedule == null) {
+                    schedule = ContestSchedule.of(contestRepository.findAll());
+                }
+                current = schedule;
+            }
+        }
+        return current;
+    }
+
+    private static boolean sameListing(Contest a, Contest b) {
+        return Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getPlatform(), b.getPlatform())
+                && Objects.equals(a.getLink(), b.getLink())
+                && Objects.equals(a.getStartTime(), b.getStartTime())
+                && Objects.equals(a.getDuration(), b.getDuration());
     }
 }
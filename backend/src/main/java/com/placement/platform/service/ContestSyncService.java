@@ -0,0 +1,96 @@
+package com.placement.platform.service;
+
+import com.placement.platform.dto.ContestSyncReport;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pulls every {@link ContestFeed} on a fixed delay and hands changed listings
+ * to {@link ContestService#upsert}. Each feed's validators are kept only once
+ * its listing has been stored, so a failed write is fetched again in full.
+ * Scheduled syncing is off by default; admins can always trigger a sync.
+ */
+@Slf4j
+@Service
+public class ContestSyncService {
+
+    private final List<ContestFeed> feeds;
+    private final ContestService contestService;
+    private final boolean enabled;
+    private final long intervalMinutes;
+
+    private final Map<String, ContestFeed.Validators> validators = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "contest-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ContestSyncService(List<ContestFeed> feeds, ContestService contestService,
+            @Value("${application.contests.sync.enabled:false}") boolean enabled,
+            @Value("${application.contests.sync.interval-minutes:30}") long intervalMinutes) {
+        this.feeds = feeds;
+        this.contestService = contestService;
+        this.enabled = enabled;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            syncer.scheduleWithFixedDelay(this::syncQuietly, 0, intervalMinutes, TimeUnit.MINUTES);
+            log.info("Contest sync every {} minutes from {} feeds", intervalMinutes, feeds.size());
+        }
+    }
+
+    // One feed failing does not hold back the others
+    public synchronized List<ContestSyncReport> sync() {
+        List<ContestSyncReport> reports = new ArrayList<>(feeds.size());
+        for (ContestFeed feed : feeds) {
+            try {
+                ContestFeed.Fetch fetch = feed.fetch(validators.get(feed.platform()));
+                if (fetch.contests() == null) {
+                    reports.add(new ContestSyncReport(feed.platform(), false, 0, 0, 0, null));
+                } else {
+                    ContestService.Upserted upserted = contestService.upsert(fetch.contests());
+                    reports.add(new ContestSyncReport(feed.platform(), true, fetch.contests().size(),
+                            upserted.inserted(), upserted.updated(), null));
+                }
+                if (fetch.validators() != null) {
+                    validators.put(feed.platform(), fetch.validators());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not sync {} contests: {}", feed.platform(), e.getMessage());
+                reports.add(new ContestSyncReport(feed.platform(), false, 0, 0, 0, e.getMessage()));
+            }
+        }
+        return reports;
+    }
+
+    private void syncQuietly() {
+        for (ContestSyncReport report : sync()) {
+            if (report.inserted() > 0 || report.updated() > 0) {
+                log.info("Synced {} contests: {} new, {} changed", report.platform(), report.inserted(),
+                        report.updated());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        syncer.shutdownNow();
+    }
+}
@@ -1,68 +1,207 @@
 package com.placement.platform.service;
 
+import com.placement.platform.domain.Difficulty;
 import com.placement.platform.domain.Question;
 import com.placement.platform.domain.Status;
-import com.placement.platform.domain.User;
-import com.placement.platform.domain.UserProgress;
+import com.placement.platform.dto.CursorPage;
+import com.placement.platform.dto.ProgressBreakdown;
+import com.placement.platform.dto.ProgressUpdate;
+import com.placement.platform.dto.ProgressView;
+import com.placement.platform.event.QuestionAddedEvent;
 import com.placement.platform.repository.QuestionRepository;
-import com.placement.platform.repository.UserProgressRepository;
-import com.placement.platform.repository.UserRepository;
+import com.placement.platform.repository.UserProgressJdbcRepository;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.util.QuestionCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class DsaService {
 
     private final QuestionRepository questionRepository;
-    private final UserProgressRepository userProgressRepository;
-    private final UserRepository userRepository;
+    private final UserProgressJdbcRepository userProgressJdbcRepository;
+    private final Optional<ProgressWriteBuffer> writeBuffer;
+    private final ProgressStatistics progressStatistics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public List<Question> getAllQuestions() {
-        return questionRepository.findAll();
+    // Distinguishes ETags across restarts, when catalog versions start counting again
+    private static final String CATALOG_EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    @Value("${application.dsa.questions.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${application.dsa.questions.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${application.dsa.progress.page-size:500}")
+    private int progressPageSize;
+
+    @Value("${application.dsa.progress.max-batch-size:1000}")
+    private int maxProgressBatchSize;
+
+    private final Object catalogLock = new Object();
+    private volatile QuestionCatalog catalog;
+
+    public CursorPage<Question> getQuestions(String topic, Difficulty difficulty, String search, String cursor,
+            Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        return catalog().page(topic, difficulty, search, QuestionCursor.decode(cursor), limit);
+    }
+
+    // Strong ETag for the current catalog version; it changes only when the catalog is rebuilt
+    public String getCatalogETag() {
+        return "\"" + CATALOG_EPOCH + "-" + catalog().version() + "\"";
     }
 
-    public List<Question> getQuestionsByTopic(String topic) {
-        return questionRepository.findByTopic(topic);
+    public QuestionCatalog catalog() {
+        QuestionCatalog current = catalog;
+        if (current == null) {
+            synchronized (catalogLock) {
+                current = catalog;
+                if (current == null) {
+                    current = QuestionCatalog.of(1, questionRepository.findAll());
+                    catalog = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadCatalog() {
+        synchronized (catalogLock) {
+            long version = catalog != null ? catalog.version() + 1 : 1;
+            catalog = QuestionCatalog.of(version, questionRepository.findAll());
+        }
     }
 
     public Question addQuestion(Question question) {
-        return questionRepository.save(question);
+        Question saved = questionRepository.save(question);
+        synchronized (catalogLock) {
+            QuestionCatalog current = catalog();
+            catalog = current.with(saved, current.version() + 1);
+        }
+        eventPublisher.publishEvent(new QuestionAddedEvent(saved));
+        return saved;
+    }
+
+    public ProgressUpdate updateProgress(UUID userId, UUID questionId, Status status) {
+        ProgressUpdate update = validated(questionId, status);
+        List<ProgressWrite> writes = List.of(new ProgressWrite(userId, questionId, status));
+        progressStatistics.record(userId, writes, catalog(), () -> persist(writes));
+        return update;
     }
 
-    @Transactional
-    public UserProgress updateProgress(String userEmail, UUID questionId, Status status) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    // Applies many status changes in one transaction; a later entry for the same question wins
+    public List<ProgressUpdate> updateProgressBatch(UUID userId, List<ProgressUpdate> updates) {
+        if (updates.size() > maxProgressBatchSize) {
+            throw new RuntimeException("Too many progress updates in one batch");
+        }
+        Map<UUID, ProgressUpdate> latest = new LinkedHashMap<>();
+        for (ProgressUpdate update : updates) {
+            latest.remove(update.questionId());
+            latest.put(update.questionId(), validated(update.questionId(), update.status()));
+        }
+        List<ProgressWrite> writes = new ArrayList<>(latest.size());
+        for (ProgressUpdate update : latest.values()) {
+            writes.add(new ProgressWrite(userId, update.questionId(), update.status()));
+        }
+        progressStatistics.record(userId, writes, catalog(), () -> persist(writes));
+        return new ArrayList<>(latest.values());
+    }
 
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new RuntimeException("Question not found"));
+    // Write-behind waits for the log fsync, so it must not hold a transaction and its connection meanwhile
+    private void persist(List<ProgressWrite> writes) {
+        if (writeBuffer.isPresent()) {
+            writeBuffer.get().submit(writes);
+        } else if (writes.size() == 1) {
+            userProgressJdbcRepository.upsert(writes.get(0));
+        } else {
+            transactionTemplate.executeWithoutResult(status -> userProgressJdbcRepository.upsertAll(writes));
+        }
+    }
 
-        UserProgress progress = userProgressRepository.findByUserIdAndQuestionId(user.getId(), questionId)
-                .orElse(UserProgress.builder()
-                        .user(user)
-                        .question(question)
-                        .build());
+    private ProgressUpdate validated(UUID questionId, Status status) {
+        if (questionId == null || catalog().get(questionId) == null) {
+            throw new RuntimeException("Question not found");
+        }
+        if (status == null) {
+            throw new RuntimeException("Status is required");
+        }
+        return new ProgressUpdate(questionId, status);
+    }
 
-        progress.setStatus(status);
-        return userProgressRepository.save(progress);
+    /**
+     * Hands the user's progress to the consumer a page at a time, in title
+     * order. Every page is its own short query and none of them runs in a
+     * surrounding transaction, so a consumer writing to a slow client holds
+     * no connection. Updates the write-behind buffer has not flushed yet
+     * replace stored rows, and those with no stored row follow in a last page.
+     */
+    public void forEachProgressPage(UUID userId, Consumer<List<ProgressView>> consumer) {
+        Map<UUID, Status> unseen = new LinkedHashMap<>(pendingProgress(userId));
+        List<ProgressView> stored = userProgressJdbcRepository.findViews(userId, null, progressPageSize);
+        while (!stored.isEmpty()) {
+            List<ProgressView> page = new ArrayList<>(stored.size());
+            for (ProgressView view : stored) {
+                Status status = unseen.remove(view.questionId());
+                page.add(status == null ? view : new ProgressView(view.questionId(), view.title(), view.topic(),
+                        view.difficulty(), status, view.completedAt()));
+            }
+            consumer.accept(page);
+            if (stored.size() < progressPageSize) {
+                break;
+            }
+            stored = userProgressJdbcRepository.findViews(userId, stored.get(stored.size() - 1), progressPageSize);
+        }
+        QuestionCatalog current = catalog();
+        List<ProgressView> buffered = new ArrayList<>();
+        unseen.forEach((questionId, status) -> {
+            Question question = current.get(questionId);
+            if (question == null) {
+                // Deleted since the update was buffered
+                return;
+            }
+            buffered.add(new ProgressView(questionId, question.getTitle(), question.getTopic(),
+                    question.getDifficulty(), status, null));
+        });
+        if (!buffered.isEmpty()) {
+            consumer.accept(buffered);
+        }
     }
 
-    public List<UserProgress> getUserProgress(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public long getSolvedCount(UUID userId) {
+        return progressStatistics.solvedCount(userId, catalog());
+    }
 
-        return userProgressRepository.findByUserId(user.getId());
+    public ProgressBreakdown getProgressBreakdown(UUID userId) {
+        return progressStatistics.breakdown(userId, catalog());
     }
 
-    public long getSolvedCount(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public void rebuildProgressStatistics(UUID userId) {
+        if (userId == null) {
+            progressStatistics.rebuildAll();
+        } else {
+            progressStatistics.rebuild(userId);
+        }
+    }
 
-        return userProgressRepository.countSolvedByUserId(user.getId());
+    private Map<UUID, Status> pendingProgress(UUID userId) {
+        return writeBuffer.map(buffer -> buffer.pendingFor(userId)).orElse(Map.of());
     }
 }
@@ -0,0 +1,109 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.platform.domain.Contest;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Fetches a JSON contest listing with a conditional request: the previous
+ * ETag and Last-Modified go out as If-None-Match and If-Modified-Since, and a
+ * 304 skips parsing altogether. Platforms that ignore both still cost no
+ * parsing when the body is byte-for-byte the same as last time.
+ */
+public abstract class HttpContestFeed implements ContestFeed {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String url;
+
+    protected HttpContestFeed(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper, String url) {
+        this.restTemplate = restTemplateBuilder.setConnectTimeout(TIMEOUT).setReadTimeout(TIMEOUT).build();
+        this.objectMapper = objectMapper;
+        this.url = url;
+    }
+
+    @Override
+    public Fetch fetch(Validators previous) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (previous != null && previous.etag() != null) {
+            headers.setIfNoneMatch(previous.etag());
+        }
+        if (previous != null && previous.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+        }
+        String requestBody = requestBody();
+        if (requestBody != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.exchange(url, requestBody == null ? HttpMethod.GET : HttpMethod.POST,
+                    new HttpEntity<>(requestBody, headers), String.class);
+        } catch (RestClientException e) {
+            throw new IOException(platform() + " contest feed failed: " + e.getMessage(), e);
+        }
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return new Fetch(null, previous);
+        }
+        String body = response.getBody() == null ? "" : response.getBody();
+        Validators validators = new Validators(response.getHeaders().getETag(),
+                response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), digest(body));
+        if (previous != null && validators.digest().equals(previous.digest())) {
+            return new Fetch(null, validators);
+        }
+        return new Fetch(parse(objectMapper.readTree(body)), validators);
+    }
+
+    // POST body for query APIs; null sends a GET
+    protected String requestBody() {
+        return null;
+    }
+
+    protected abstract List<Contest> parse(JsonNode root) throws IOException;
+
+    protected static LocalDateTime fromEpochSeconds(long seconds) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(seconds), ZoneId.systemDefault());
+    }
+
+    // In the form the contest page shows and ContestSchedule reads back, e.g. "2 Hours" or "2h 15m"
+    protected static String describe(Duration duration) {
+        long hours = duration.toHours();
+        int minutes = duration.toMinutesPart();
+        if (minutes == 0) {
+            return hours == 1 ? "1 Hour" : hours + " Hours";
+        }
+        return hours == 0 ? minutes + "m" : hours + "h " + minutes + "m";
+    }
+
+    private static String digest(String body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Company;
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.dto.ImportReport;
+import com.placement.platform.event.InterviewQuestionAddedEvent;
+import com.placement.platform.repository.CompanyRepository;
+import com.placement.platform.repository.CompanyRepository.CompanyName;
+import com.placement.platform.repository.InterviewQuestionRepository;
+import com.placement.platform.repository.InterviewQuestionRepository.CompanyTitle;
+import com.placement.platform.util.BoundedCache;
+import com.placement.platform.util.ImportRecordReader;
+import com.placement.platform.util.ImportRecordReader.ImportRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bulk interview-question import. Rows name their company; names are resolved
+ * to ids through a cache and missing companies are created in a batch. A
+ * question is a duplicate when its company already has a question with the
+ * same normalized title, either stored or earlier in the upload; the stored
+ * titles of a company are fingerprinted the first time the upload mentions it.
+ * Questions of a chunk are written with one JDBC batch.
+ * <p>
+ * Imports run one at a time so two uploads cannot both add the same question.
+ */
+@Service
+public class InterviewQuestionImportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_COMPANY = "INSERT INTO companies (id, name, industry) VALUES (?, ?, ?)";
+    private static final String INSERT_QUESTION = "INSERT INTO interview_questions "
+            + "(id, company_id, title, description, difficulty, topic, frequency) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final CompanyRepository companyRepository;
+    private final InterviewQuestionRepository interviewQuestionRepository;
+    private final CompanyService companyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // Lower-cased company name -> id; companies are never renamed or deleted
+    private final BoundedCache<String, UUID> companyIds;
+    private final ReentrantLock importLock = new ReentrantLock();
+
+    private record QuestionRow(long row, String company, String industry, String title, String description,
+            Difficulty difficulty, String topic, String frequency) {
+    }
+
+    // Per-upload state: fingerprints of every (company, title) seen so far
+    private static final class ImportState {
+        private final ImportReport report = new ImportReport();
+        private final Set<UUID> loadedCompanies = new HashSet<>();
+        private final Set<Long> fingerprints = new HashSet<>();
+    }
+
+    public InterviewQuestionImportService(CompanyRepository companyRepository,
+            InterviewQuestionRepository interviewQuestionRepository,
+            CompanyService companyService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${application.companies.name-cache-size:10000}") int cacheSize) {
+        this.companyRepository = companyRepository;
+        this.interviewQuestionRepository = interviewQuestionRepository;
+        this.companyService = companyService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.companyIds = new BoundedCache<>(cacheSize);
+    }
+
+    public ImportReport importQuestions(InputStream input, ImportRecordReader.Format format) throws IOException {
+        importLock.lock();
+        try {
+            ImportState state = new ImportState();
+            List<QuestionRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            try (ImportRecordReader reader = new ImportRecordReader(input, format)) {
+                ImportRecord record;
+                while ((record = reader.next()) != null) {
+                    state.report.setTotalRows(state.report.getTotalRows() + 1);
+                    QuestionRow row = toRow(record, state.report);
+                    if (row != null) {
+                        chunk.add(row);
+                    }
+                    if (chunk.size() == CHUNK_SIZE) {
+                        importChunk(chunk, state);
+                        chunk.clear();
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, state);
+            }
+            return state.report;
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    private QuestionRow toRow(ImportRecord record, ImportReport report) {
+        if (record.error() != null) {
+            report.fail(record.row(), null, record.error());
+            return null;
+        }
+        String company = record.get("company");
+        String title = record.get("title");
+        if (company == null || title == null) {
+            report.fail(record.row(), title, "company and title are required");
+            return null;
+        }
+        Difficulty difficulty = null;
+        if (record.get("difficulty") != null) {
+            try {
+                difficulty = Difficulty.valueOf(record.get("difficulty").toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                report.fail(record.row(), title, "Invalid difficulty");
+                return null;
+            }
+        }
+        return new QuestionRow(record.row(), company.replaceAll("\\s+", " "), record.get("industry"), title,
+                record.get("description"), difficulty, record.get("topic"), record.get("frequency"));
+    }
+
+    private void importChunk(List<QuestionRow> chunk, ImportState state) {
+        Map<String, UUID> companies = resolveCompanies(chunk);
+        Set<UUID> unloaded = new HashSet<>(companies.values());
+        unloaded.removeAll(state.loadedCompanies);
+        if (!unloaded.isEmpty()) {
+            for (CompanyTitle existing : interviewQuestionRepository.findTitlesByCompanyIdIn(unloaded)) {
+                state.fingerprints.add(fingerprint(existing.getCompanyId(), existing.getTitle()));
+            }
+            state.loadedCompanies.addAll(unloaded);
+        }
+        List<QuestionRow> rows = new ArrayList<>(chunk.size());
+        List<Object[]> questions = new ArrayList<>(chunk.size());
+        for (QuestionRow row : chunk) {
+            UUID companyId = companies.get(key(row.company()));
+            if (companyId == null) {
+                state.report.fail(row.row(), row.title(), "Company could not be created");
+                continue;
+            }
+            if (!state.fingerprints.add(fingerprint(companyId, row.title()))) {
+                state.report.fail(row.row(), row.title(), "Duplicate question for " + row.company());
+                continue;
+            }
+            rows.add(row);
+            questions.add(new Object[] { UUID.randomUUID(), companyId, row.title(), row.description(),
+                    row.difficulty() == null ? null : row.difficulty().name(), row.topic(), row.frequency() });
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        companyService.recordQuestionWrites(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_QUESTION, questions));
+                for (int i = 0; i < rows.size(); i++) {
+                    imported(rows.get(i), questions.get(i), state.report);
+                }
+            } catch (DataIntegrityViolationException e) {
+                for (int i = 0; i < rows.size(); i++) {
+                    try {
+                        jdbcTemplate.update(INSERT_QUESTION, questions.get(i));
+                        imported(rows.get(i), questions.get(i), state.report);
+                    } catch (DataIntegrityViolationException rowFailure) {
+                        state.report.fail(rows.get(i).row(), rows.get(i).title(), "Question could not be stored");
+                    }
+                }
+            }
+        });
+        companies.values().forEach(companyService::invalidateCompanyDetail);
+    }
+
+    // Lower-cased name -> id for every company the chunk mentions, creating the missing ones
+    private Map<String, UUID> resolveCompanies(List<QuestionRow> chunk) {
+        Map<String, UUID> resolved = new HashMap<>();
+        Map<String, QuestionRow> missing = new LinkedHashMap<>();
+        for (QuestionRow row : chunk) {
+            String key = key(row.company());
+            UUID id = companyIds.get(key);
+            if (id != null) {
+                resolved.put(key, id);
+            } else {
+                missing.putIfAbsent(key, row);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+        lookup(missing.keySet(), resolved);
+        missing.keySet().removeAll(resolved.keySet());
+        if (!missing.isEmpty()) {
+            List<Object[]> created = new ArrayList<>(missing.size());
+            missing.forEach((key, row) -> created.add(new Object[] { UUID.randomUUID(), row.company(), row.industry() }));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_COMPANY, created));
+            } catch (DataIntegrityViolationException e) {
+                // Created meanwhile under a slightly different spelling; one at a time, then look up what is left
+                for (Object[] company : created) {
+                    try {
+                        jdbcTemplate.update(INSERT_COMPANY, company);
+                    } catch (DataIntegrityViolationException duplicate) {
+                        // resolved by the lookup below
+                    }
+                }
+            }
+            lookup(missing.keySet(), resolved);
+        }
+        resolved.forEach(companyIds::put);
+        return resolved;
+    }
+
+    private void lookup(Set<String> keys, Map<String, UUID> resolved) {
+        for (CompanyName company : companyRepository.findByLowerCaseNameIn(keys)) {
+            resolved.putIfAbsent(key(company.getName()), company.getId());
+        }
+    }
+
+    private void imported(QuestionRow row, Object[] values, ImportReport report) {
+        report.setImported(report.getImported() + 1);
+        eventPublisher.publishEvent(new InterviewQuestionAddedEvent(InterviewQuestion.builder()
+                .id((UUID) values[0])
+                .company(Company.builder().id((UUID) values[1]).name(row.company()).build())
+                .title(row.title())
+                .description(row.description())
+                .difficulty(row.difficulty())
+                .topic(row.topic())
+                .frequency(row.frequency())
+                .build()));
+    }
+
+    private static String key(String companyName) {
+        return companyName.toLowerCase(Locale.ROOT);
+    }
+
+    // 64-bit FNV-1a over the company id and the title with case, punctuation and spacing folded away
+    static long fingerprint(UUID companyId, String title) {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, companyId.getMostSignificantBits());
+        hash = mix(hash, companyId.getLeastSignificantBits());
+        boolean started = false;
+        boolean gap = false;
+        for (int i = 0; i < title.length(); i++) {
+            char c = title.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                gap = started;
+                continue;
+            }
+            if (gap) {
+                hash = (hash ^ ' ') * 0x100000001b3L;
+                gap = false;
+            }
+            started = true;
+            hash = (hash ^ Character.toLowerCase(c)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+}
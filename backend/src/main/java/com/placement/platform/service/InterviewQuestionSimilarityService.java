@@ -0,0 +1,162 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Company;
+import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.dto.DuplicateGroup;
+import com.placement.platform.dto.SimilarQuestion;
+import com.placement.platform.event.InterviewQuestionAddedEvent;
+import com.placement.platform.repository.CompanyRepository;
+import com.placement.platform.repository.InterviewQuestionRepository;
+import com.placement.platform.repository.InterviewQuestionRepository.SimilarityText;
+import com.placement.platform.util.MinHashIndex;
+import com.placement.platform.util.MinHashIndex.Group;
+import com.placement.platform.util.MinHashIndex.Match;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Finds interview questions reported under different wording, usually by
+ * different companies. Titles and descriptions are kept as MinHash signatures
+ * in a {@link MinHashIndex}, loaded at startup and extended as questions are
+ * added, so neither lookups nor the duplicates report compare every pair.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewQuestionSimilarityService {
+
+    private record Summary(UUID companyId, String title, String topic) {
+    }
+
+    // Swapped as a whole; every question in the index has a summary
+    private record Model(MinHashIndex<UUID> index, Map<UUID, Summary> summaries) {
+    }
+
+    private final InterviewQuestionRepository interviewQuestionRepository;
+    private final CompanyRepository companyRepository;
+    private final CompanyService companyService;
+
+    @Value("${application.interview-questions.similarity.min-similarity:0.5}")
+    private double defaultMinSimilarity;
+
+    @Value("${application.interview-questions.similarity.max-results:100}")
+    private int maxResults;
+
+    private final Object writeLock = new Object();
+    private volatile Model model = new Model(new MinHashIndex<>(), new ConcurrentHashMap<>());
+
+    // Question writes are paused while the table is read, so none is missed between the read and the swap
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        companyService.withQuestionWritesPaused(() -> {
+            MinHashIndex<UUID> index = new MinHashIndex<>();
+            Map<UUID, Summary> summaries = new ConcurrentHashMap<>();
+            try (Stream<SimilarityText> rows = interviewQuestionRepository.streamSimilarityTexts()) {
+                rows.forEach(row -> {
+                    summaries.put(row.getId(), new Summary(row.getCompanyId(), row.getTitle(), row.getTopic()));
+                    index.put(row.getId(), row.getTitle(), row.getDescription());
+                });
+            }
+            synchronized (writeLock) {
+                model = new Model(index, summaries);
+            }
+            log.info("Similarity index built for {} interview questions", index.size());
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onInterviewQuestionAdded(InterviewQuestionAddedEvent event) {
+        InterviewQuestion question = event.question();
+        synchronized (writeLock) {
+            // Summary first, so a concurrent lookup never matches a question it cannot describe
+            model.summaries().put(question.getId(), new Summary(
+                    question.getCompany() == null ? null : question.getCompany().getId(),
+                    question.getTitle(), question.getTopic()));
+            model.index().put(question.getId(), question.getTitle(), question.getDescription());
+        }
+    }
+
+    public List<SimilarQuestion> similar(UUID questionId, Double minSimilarity, Integer limit) {
+        Model current = model;
+        if (!current.summaries().containsKey(questionId)) {
+            throw new RuntimeException("Question not found");
+        }
+        List<Match<UUID>> matches = current.index().similar(questionId, threshold(minSimilarity), size(limit));
+        Map<UUID, String> companyNames = companyNames(current, matches.stream().map(Match::key).toList());
+        List<SimilarQuestion> similar = new ArrayList<>(matches.size());
+        for (Match<UUID> match : matches) {
+            similar.add(toSimilar(current, match.key(), match.similarity(), companyNames));
+        }
+        return similar;
+    }
+
+    // Largest groups first; each suggests which question to keep and which to merge into it
+    public List<DuplicateGroup> duplicates(Double minSimilarity, Integer limit) {
+        Model current = model;
+        List<Group<UUID>> groups = current.index().groups(threshold(minSimilarity));
+        groups = groups.subList(0, Math.min(groups.size(), size(limit)));
+        List<UUID> questionIds = new ArrayList<>();
+        for (Group<UUID> group : groups) {
+            questionIds.add(group.representative());
+            group.members().forEach(member -> questionIds.add(member.key()));
+        }
+        Map<UUID, String> companyNames = companyNames(current, questionIds);
+        List<DuplicateGroup> report = new ArrayList<>(groups.size());
+        for (Group<UUID> group : groups) {
+            List<SimilarQuestion> duplicates = new ArrayList<>(group.members().size());
+            for (Match<UUID> member : group.members()) {
+                duplicates.add(toSimilar(current, member.key(), member.similarity(), companyNames));
+            }
+            report.add(new DuplicateGroup(toSimilar(current, group.representative(), 1.0, companyNames), duplicates));
+        }
+        return report;
+    }
+
+    private Map<UUID, String> companyNames(Model current, Collection<UUID> questionIds) {
+        Set<UUID> companyIds = new HashSet<>();
+        for (UUID questionId : questionIds) {
+            Summary summary = current.summaries().get(questionId);
+            if (summary != null && summary.companyId() != null) {
+                companyIds.add(summary.companyId());
+            }
+        }
+        Map<UUID, String> names = new HashMap<>();
+        for (Company company : companyRepository.findAllById(companyIds)) {
+            names.put(company.getId(), company.getName());
+        }
+        return names;
+    }
+
+    private static SimilarQuestion toSimilar(Model current, UUID questionId, double similarity,
+            Map<UUID, String> companyNames) {
+        Summary summary = current.summaries().get(questionId);
+        return new SimilarQuestion(questionId, summary.companyId(), companyNames.get(summary.companyId()),
+                summary.title(), summary.topic(), similarity);
+    }
+
+    private double threshold(Double minSimilarity) {
+        return minSimilarity == null ? defaultMinSimilarity : Math.max(0.1, Math.min(minSimilarity, 1.0));
+    }
+
+    private int size(Integer limit) {
+        return limit == null ? maxResults : Math.max(1, Math.min(limit, maxResults));
+    }
+}
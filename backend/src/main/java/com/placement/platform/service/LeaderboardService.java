@@ -0,0 +1,150 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.LeaderboardEntry;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.SolvedByTopic;
+import com.placement.platform.repository.UserRepository;
+import com.placement.platform.util.BoundedCache;
+import com.placement.platform.util.RankIndex;
+import com.placement.platform.util.RankIndex.Ranked;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Solved-count leaderboards, overall and per topic, kept in {@link RankIndex}es
+ * that are loaded once from user_progress at startup and then moved by
+ * {@link ProgressChangedEvent}s. Names never change after registration, so
+ * they are cached and only users not seen before are looked up.
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    private record Boards(RankIndex overall, Map<String, RankIndex> byTopic) {
+    }
+
+    private final UserProgressRepository userProgressRepository;
+    private final UserRepository userRepository;
+    private final DsaService dsaService;
+    private final ProgressStatistics progressStatistics;
+    private final BoundedCache<UUID, String> names;
+
+    @Value("${application.dsa.leaderboard.max-page-size:100}")
+    private int maxPageSize;
+
+    private final Object writeLock = new Object();
+    private volatile Boards boards = new Boards(new RankIndex(), new ConcurrentHashMap<>());
+
+    public LeaderboardService(UserProgressRepository userProgressRepository,
+            UserRepository userRepository,
+            DsaService dsaService,
+            ProgressStatistics progressStatistics,
+            @Value("${application.dsa.leaderboard.name-cache-size:10000}") int nameCacheSize) {
+        this.userProgressRepository = userProgressRepository;
+        this.userRepository = userRepository;
+        this.dsaService = dsaService;
+        this.progressStatistics = progressStatistics;
+        this.names = new BoundedCache<>(nameCacheSize);
+    }
+
+    // Progress writes are paused while the counts are read, so no event is both in them and applied on top
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        progressStatistics.withWritesPaused(() -> {
+            Map<UUID, Integer> overall = new HashMap<>();
+            Map<String, Map<UUID, Integer>> byTopic = new HashMap<>();
+            for (SolvedByTopic row : userProgressRepository.countSolvedByUserAndTopic()) {
+                int solved = (int) row.getSolved();
+                overall.merge(row.getUserId(), solved, Integer::sum);
+                if (row.getTopic() != null) {
+                    byTopic.computeIfAbsent(row.getTopic(), topic -> new HashMap<>()).put(row.getUserId(), solved);
+                }
+            }
+            Map<String, RankIndex> topicBoards = new ConcurrentHashMap<>();
+            byTopic.forEach((topic, scores) -> topicBoards.put(topic, new RankIndex(scores)));
+            synchronized (writeLock) {
+                boards = new Boards(new RankIndex(overall), topicBoards);
+            }
+            log.info("Leaderboard loaded with {} ranked users across {} topics", overall.size(), topicBoards.size());
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onProgressChanged(ProgressChangedEvent event) {
+        int delta = (event.current() == Status.SOLVED ? 1 : 0) - (event.previous() == Status.SOLVED ? 1 : 0);
+        if (delta == 0) {
+            return;
+        }
+        Question question = dsaService.catalog().get(event.questionId());
+        synchronized (writeLock) {
+            Boards current = boards;
+            current.overall().adjust(event.userId(), delta);
+            if (question != null && question.getTopic() != null) {
+                current.byTopic().computeIfAbsent(question.getTopic(), topic -> new RankIndex())
+                        .adjust(event.userId(), delta);
+            }
+        }
+    }
+
+    public List<LeaderboardEntry> top(String topic, Integer offset, Integer limit) {
+        int size = limit == null ? 10 : Math.max(1, Math.min(limit, maxPageSize));
+        return withNames(board(topic).range(offset == null ? 0 : Math.max(0, offset), size));
+    }
+
+    public LeaderboardEntry rankOf(UUID userId, String topic) {
+        return withNames(List.of(board(topic).rankOf(userId))).get(0);
+    }
+
+    public List<LeaderboardEntry> around(UUID userId, String topic, Integer window) {
+        int half = window == null ? 5 : Math.max(0, Math.min(window, maxPageSize / 2));
+        return withNames(board(topic).around(userId, half));
+    }
+
+    private RankIndex board(String topic) {
+        Boards current = boards;
+        if (topic == null) {
+            return current.overall();
+        }
+        RankIndex board = current.byTopic().get(topic);
+        return board != null ? board : new RankIndex();
+    }
+
+    private List<LeaderboardEntry> withNames(List<Ranked> ranked) {
+        Map<UUID, String> pageNames = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (Ranked entry : ranked) {
+            String name = names.get(entry.userId());
+            if (name != null) {
+                pageNames.put(entry.userId(), name);
+            } else {
+                missing.add(entry.userId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            userRepository.findDisplayNames(missing).forEach(name -> {
+                pageNames.put(name.getId(), name.getFullName());
+                if (name.getFullName() != null) {
+                    names.put(name.getId(), name.getFullName());
+                }
+            });
+        }
+        return ranked.stream()
+                .map(entry -> new LeaderboardEntry(entry.rank(), entry.userId(), pageNames.get(entry.userId()),
+                        entry.score()))
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.platform.domain.Contest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// LeetCode only exposes upcoming contests through GraphQL, which answers POSTs without validators
+@Component
+public class LeetCodeContestFeed extends HttpContestFeed {
+
+    private static final String QUERY = "{\"query\":\"{ upcomingContests { title titleSlug startTime duration } }\"}";
+
+    public LeetCodeContestFeed(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper,
+            @Value("${application.contests.sync.leetcode-url:https://leetcode.com/graphql}") String url) {
+        super(restTemplateBuilder, objectMapper, url);
+    }
+
+    @Override
+    public String platform() {
+        return "LeetCode";
+    }
+
+    @Override
+    protected String requestBody() {
+        return QUERY;
+    }
+
+    @Override
+    protected List<Contest> parse(JsonNode root) throws IOException {
+        if (root.has("errors")) {
+            throw new IOException("LeetCode contest feed returned " + root.path("errors").path(0).path("message").asText());
+        }
+        List<Contest> contests = new ArrayList<>();
+        for (JsonNode contest : root.path("data").path("upcomingContests")) {
+            String slug = contest.path("titleSlug").asText();
+            contests.add(Contest.builder()
+                    .externalId("leetcode:" + slug)
+                    .name(contest.path("title").asText())
+                    .platform(platform())
+                    .link("https://leetcode.com/contest/" + slug + "/")
+                    .startTime(fromEpochSeconds(contest.path("startTime").asLong()))
+                    .duration(describe(Duration.ofSeconds(contest.path("duration").asLong())))
+                    .build());
+        }
+        return contests;
+    }
+}
@@ -0,0 +1,272 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.ProgressBreakdown;
+import com.placement.platform.dto.ProgressUpdate;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.util.BoundedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Per-user progress counts by status, topic and difficulty, kept in memory and
+ * updated on every status transition instead of recounted per request. A
+ * user's counts are loaded from user_progress on first use and can be thrown
+ * away at any time; the next read rebuilds them. Transitions are applied as
+ * "question is now in status X", so applying one twice changes nothing.
+ * Counts and events only ever reflect committed writes, and a user's counts
+ * are never loaded while one of their writes is still in flight, so a load
+ * cannot miss a write that lands on an evicted copy.
+ */
+@Slf4j
+@Component
+public class ProgressStatistics {
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private final UserProgressRepository userProgressRepository;
+    private final Optional<ProgressWriteBuffer> writeBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoundedCache<UUID, UserStats> stats;
+    // Writers share a stripe's read lock for the whole write; a load takes the write lock
+    private final ReentrantReadWriteLock[] loadLocks = new ReentrantReadWriteLock[64];
+
+    public ProgressStatistics(UserProgressRepository userProgressRepository,
+            Optional<ProgressWriteBuffer> writeBuffer,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${application.dsa.progress.statistics-cache-size:10000}") int cacheSize) {
+        this.userProgressRepository = userProgressRepository;
+        this.writeBuffer = writeBuffer;
+        this.eventPublisher = eventPublisher;
+        this.stats = new BoundedCache<>(cacheSize);
+        for (int i = 0; i < loadLocks.length; i++) {
+            loadLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Persists writes through the given action and applies them once they are
+     * committed: straight away when the action commits on its own, or after
+     * the surrounding transaction commits. The write and its transitions
+     * happen under the same per-user lock, so events come out in write order.
+     */
+    public void record(UUID userId, List<ProgressWrite> writes, QuestionCatalog catalog, Runnable persist) {
+        Lock inFlight = loadLocks[stripe(userId)].readLock();
+        UserStats userStats = pinnedStatsFor(userId, catalog, inFlight);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                synchronized (userStats) {
+                    persist.run();
+                    apply(userId, userStats, writes, catalog);
+                }
+            } finally {
+                inFlight.unlock();
+            }
+            return;
+        }
+        try {
+            synchronized (userStats) {
+                persist.run();
+            }
+        } finally {
+            inFlight.unlock();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                synchronized (userStats) {
+                    apply(userId, userStats, writes, catalog);
+                }
+                // A copy loaded before our commit misses this write; let the next read load again
+                if (stats.get(userId) != userStats) {
+                    stats.invalidate(userId);
+                }
+            }
+        });
+    }
+
+    private void apply(UUID userId, UserStats userStats, List<ProgressWrite> writes, QuestionCatalog catalog) {
+        for (ProgressWrite write : writes) {
+            Status previous = userStats.set(catalog.get(write.questionId()), write.questionId(), write.status());
+            if (previous != write.status()) {
+                try {
+                    eventPublisher.publishEvent(
+                            new ProgressChangedEvent(userId, write.questionId(), previous, write.status()));
+                } catch (RuntimeException e) {
+                    // The write is committed; a broken read model must not fail it or starve the others
+                    log.error("Progress listener failed for user {} question {}", userId, write.questionId(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a read with no progress write in flight: every write committed
+     * before it has been applied and published, and none starts until it
+     * returns. For read models that rebuild from user_progress, so a rebuild
+     * and the events around it neither miss nor double-count a change. With
+     * write-behind on, the buffer is flushed first: its writes have already
+     * been published, and the flush publishes nothing.
+     */
+    public <T> T withWritesPaused(Supplier<T> read) {
+        for (ReentrantReadWriteLock stripe : loadLocks) {
+            stripe.writeLock().lock();
+        }
+        try {
+            writeBuffer.ifPresent(ProgressWriteBuffer::flush);
+            return read.get();
+        } finally {
+            for (ReentrantReadWriteLock stripe : loadLocks) {
+                stripe.writeLock().unlock();
+            }
+        }
+    }
+
+    public long solvedCount(UUID userId, QuestionCatalog catalog) {
+        UserStats userStats = statsFor(userId, catalog);
+        synchronized (userStats) {
+            return userStats.byStatus[Status.SOLVED.ordinal()];
+        }
+    }
+
+    public ProgressBreakdown breakdown(UUID userId, QuestionCatalog catalog) {
+        UserStats userStats = statsFor(userId, catalog);
+        synchronized (userStats) {
+            if (userStats.snapshot == null) {
+                userStats.snapshot = userStats.toBreakdown();
+            }
+            return userStats.snapshot;
+        }
+    }
+
+    public void rebuild(UUID userId) {
+        stats.invalidate(userId);
+    }
+
+    public void rebuildAll() {
+        stats.clear();
+    }
+
+    private UserStats statsFor(UUID userId, QuestionCatalog catalog) {
+        UserStats userStats = stats.get(userId);
+        if (userStats != null) {
+            return userStats;
+        }
+        // One loader per user, so two first requests cannot each install their own copy
+        Lock loading = loadLocks[stripe(userId)].writeLock();
+        loading.lock();
+        try {
+            return stats.computeIfAbsent(userId, id -> load(id, catalog));
+        } finally {
+            loading.unlock();
+        }
+    }
+
+    // Returns the cached counts with the in-flight lock held; no load can start until it is released
+    private UserStats pinnedStatsFor(UUID userId, QuestionCatalog catalog, Lock inFlight) {
+        while (true) {
+            UserStats userStats = statsFor(userId, catalog);
+            inFlight.lock();
+            if (stats.get(userId) == userStats) {
+                return userStats;
+            }
+            // Evicted between the lookup and the lock; load again
+            inFlight.unlock();
+        }
+    }
+
+    private int stripe(UUID userId) {
+        return Math.floorMod(userId.hashCode(), loadLocks.length);
+    }
+
+    private UserStats load(UUID userId, QuestionCatalog catalog) {
+        UserStats userStats = new UserStats();
+        for (ProgressUpdate stored : userProgressRepository.findStatusesByUserId(userId)) {
+            userStats.set(catalog.get(stored.questionId()), stored.questionId(), stored.status());
+        }
+        writeBuffer.ifPresent(buffer -> buffer.pendingFor(userId)
+                .forEach((questionId, status) -> userStats.set(catalog.get(questionId), questionId, status)));
+        return userStats;
+    }
+
+    private static final class UserStats {
+
+        private final Map<UUID, Status> statusByQuestion = new HashMap<>();
+        private final long[] byStatus = new long[STATUSES.length];
+        private final long[][] byDifficulty = new long[DIFFICULTIES.length][STATUSES.length];
+        private final Map<String, long[][]> byTopic = new HashMap<>();
+        private ProgressBreakdown snapshot;
+
+        Status set(Question question, UUID questionId, Status status) {
+            Status previous = statusByQuestion.put(questionId, status);
+            if (previous != status) {
+                count(question, previous, -1);
+                count(question, status, 1);
+                snapshot = null;
+            }
+            return previous;
+        }
+
+        private void count(Question question, Status status, int delta) {
+            if (status == null) {
+                return;
+            }
+            byStatus[status.ordinal()] += delta;
+            if (question == null || question.getDifficulty() == null) {
+                return;
+            }
+            int difficulty = question.getDifficulty().ordinal();
+            byDifficulty[difficulty][status.ordinal()] += delta;
+            if (question.getTopic() != null) {
+                byTopic.computeIfAbsent(question.getTopic(), topic -> new long[DIFFICULTIES.length][STATUSES.length])
+                        [difficulty][status.ordinal()] += delta;
+            }
+        }
+
+        ProgressBreakdown toBreakdown() {
+            Map<Difficulty, Map<Status, Long>> difficulties = new EnumMap<>(Difficulty.class);
+            for (Difficulty difficulty : DIFFICULTIES) {
+                difficulties.put(difficulty, statusCounts(byDifficulty[difficulty.ordinal()]));
+            }
+            Map<String, Map<Difficulty, Map<Status, Long>>> topics = new TreeMap<>();
+            byTopic.forEach((topic, counts) -> {
+                Map<Difficulty, Map<Status, Long>> perDifficulty = new EnumMap<>(Difficulty.class);
+                for (Difficulty difficulty : DIFFICULTIES) {
+                    perDifficulty.put(difficulty, statusCounts(counts[difficulty.ordinal()]));
+                }
+                topics.put(topic, Collections.unmodifiableMap(perDifficulty));
+            });
+            return new ProgressBreakdown(statusCounts(byStatus), Collections.unmodifiableMap(difficulties),
+                    Collections.unmodifiableMap(topics));
+        }
+
+        private static Map<Status, Long> statusCounts(long[] counts) {
+            Map<Status, Long> result = new EnumMap<>(Status.class);
+            for (Status status : STATUSES) {
+                result.put(status, counts[status.ordinal()]);
+            }
+            return Collections.unmodifiableMap(result);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Status;
+import com.placement.platform.repository.UserProgressJdbcRepository;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.util.WriteAheadLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind mode for progress updates. An update is acknowledged once it is
+ * appended to a local write-ahead log and synced (syncs are shared between
+ * concurrent writers). It is then coalesced in memory per (user, question),
+ * last status wins, and flushed to user_progress in periodic batches. Flushed
+ * log segments are deleted; whatever is left is replayed on startup.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.dsa.progress.write-behind.enabled", havingValue = "true")
+public class ProgressWriteBuffer {
+
+    private final UserProgressJdbcRepository userProgressJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteAheadLog writeAheadLog;
+    private final int maxPending;
+
+    private final Object lock = new Object();
+    private Map<UUID, Map<UUID, Status>> pending = new HashMap<>();
+    private Map<UUID, Map<UUID, Status>> flushing = Map.of();
+    private volatile int pendingCount;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "progress-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProgressWriteBuffer(UserProgressJdbcRepository userProgressJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.dsa.progress.write-behind.log-dir:data/progress-wal}") String logDir,
+            @Value("${application.dsa.progress.write-behind.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${application.dsa.progress.write-behind.max-pending:10000}") int maxPending) {
+        this.userProgressJdbcRepository = userProgressJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Rebuilds flush from inside their own read-only transaction
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxPending = maxPending;
+        this.writeAheadLog = new WriteAheadLog(Path.of(logDir));
+        writeAheadLog.replay(payload -> put(decode(payload)));
+        if (pendingCount > 0) {
+            log.info("Replayed {} pending progress updates from {}", pendingCount, logDir);
+        } else {
+            writeAheadLog.deleteSegmentsBefore(writeAheadLog.activeSegment());
+        }
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /** Returns once all writes are durable in the log. */
+    public void submit(List<ProgressWrite> writes) {
+        long seq = 0;
+        synchronized (lock) {
+            // Log order and map order must agree, so both happen under the same lock
+            for (ProgressWrite write : writes) {
+                seq = writeAheadLog.append(encode(write));
+                put(write);
+            }
+        }
+        writeAheadLog.awaitDurable(seq);
+        if (pendingCount >= maxPending && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /** Statuses not yet in the database for this user, keyed by question id. */
+    public Map<UUID, Status> pendingFor(UUID userId) {
+        synchronized (lock) {
+            Map<UUID, Status> result = new HashMap<>(flushing.getOrDefault(userId, Map.of()));
+            result.putAll(pending.getOrDefault(userId, Map.of()));
+            return result;
+        }
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            Map<UUID, Map<UUID, Status>> batch;
+            long firstUnflushedSegment;
+            synchronized (lock) {
+                if (pendingCount == 0) {
+                    return;
+                }
+                batch = pending;
+                flushing = batch;
+                pending = new HashMap<>();
+                pendingCount = 0;
+                firstUnflushedSegment = writeAheadLog.rotate();
+            }
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                synchronized (lock) {
+                    // Keep newer statuses that arrived while the batch was being written
+                    batch.forEach((userId, statuses) -> statuses.forEach((questionId, status) -> {
+                        if (!pending.getOrDefault(userId, Map.of()).containsKey(questionId)) {
+                            put(new ProgressWrite(userId, questionId, status));
+                        }
+                    }));
+                    flushing = Map.of();
+                }
+                throw e;
+            }
+            synchronized (lock) {
+                flushing = Map.of();
+            }
+            writeAheadLog.deleteSegmentsBefore(firstUnflushedSegment);
+        }
+    }
+
+    private void write(Map<UUID, Map<UUID, Status>> batch) {
+        List<ProgressWrite> writes = new ArrayList<>();
+        batch.forEach((userId, statuses) -> statuses.forEach(
+                (questionId, status) -> writes.add(new ProgressWrite(userId, questionId, status))));
+        try {
+            transactionTemplate.executeWithoutResult(status -> userProgressJdbcRepository.upsertAll(writes));
+        } catch (DataIntegrityViolationException e) {
+            // One bad row must not wedge the whole buffer
+            for (ProgressWrite write : writes) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userProgressJdbcRepository.upsert(write));
+                } catch (DataIntegrityViolationException rowError) {
+                    log.warn("Dropping progress update for user {} question {}: {}",
+                            write.userId(), write.questionId(), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Progress flush failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void put(ProgressWrite write) {
+        Status previous = pending.computeIfAbsent(write.userId(), id -> new LinkedHashMap<>())
+                .put(write.questionId(), write.status());
+        if (previous == null) {
+            pendingCount++;
+        }
+    }
+
+    private static byte[] encode(ProgressWrite write) {
+        byte[] status = write.status().name().getBytes(StandardCharsets.US_ASCII);
+        return ByteBuffer.allocate(32 + status.length)
+                .putLong(write.userId().getMostSignificantBits())
+                .putLong(write.userId().getLeastSignificantBits())
+                .putLong(write.questionId().getMostSignificantBits())
+                .putLong(write.questionId().getLeastSignificantBits())
+                .put(status)
+                .array();
+    }
+
+    private static ProgressWrite decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        UUID userId = new UUID(buffer.getLong(), buffer.getLong());
+        UUID questionId = new UUID(buffer.getLong(), buffer.getLong());
+        String status = new String(payload, 32, payload.length - 32, StandardCharsets.US_ASCII);
+        return new ProgressWrite(userId, questionId, Status.valueOf(status));
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        flusher.shutdown();
+        flushQuietly();
+        writeAheadLog.close();
+    }
+}
@@ -0,0 +1,146 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.dto.CursorPage;
+import com.placement.platform.util.QuestionCursor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the DSA question bank, sorted by (title, id) and
+ * pre-grouped by topic and difficulty. A write never modifies a snapshot; it
+ * builds a new one with a higher version, which callers publish atomically.
+ */
+public final class QuestionCatalog {
+
+    public static final Comparator<Question> ORDER = Comparator.comparing(Question::getTitle)
+            .thenComparing(Question::getId);
+
+    private final long version;
+    private final List<Question> all;
+    private final Map<UUID, Question> byId;
+    private final Map<String, List<Question>> byTopic;
+    private final Map<Difficulty, List<Question>> byDifficulty;
+    private final Map<String, Map<Difficulty, List<Question>>> byTopicAndDifficulty;
+
+    private QuestionCatalog(long version, Collection<Question> questions) {
+        List<Question> sorted = new ArrayList<>(questions);
+        sorted.sort(ORDER);
+        Map<UUID, Question> ids = new HashMap<>();
+        Map<String, List<Question>> topics = new HashMap<>();
+        Map<Difficulty, List<Question>> difficulties = new EnumMap<>(Difficulty.class);
+        Map<String, Map<Difficulty, List<Question>>> topicDifficulties = new HashMap<>();
+        for (Question question : sorted) {
+            ids.put(question.getId(), question);
+            topics.computeIfAbsent(question.getTopic(), key -> new ArrayList<>()).add(question);
+            if (question.getDifficulty() != null) {
+                difficulties.computeIfAbsent(question.getDifficulty(), key -> new ArrayList<>()).add(question);
+                topicDifficulties.computeIfAbsent(question.getTopic(), key -> new EnumMap<>(Difficulty.class))
+                        .computeIfAbsent(question.getDifficulty(), key -> new ArrayList<>()).add(question);
+            }
+        }
+        this.version = version;
+        this.all = Collections.unmodifiableList(sorted);
+        this.byId = Collections.unmodifiableMap(ids);
+        this.byTopic = Collections.unmodifiableMap(topics);
+        this.byDifficulty = Collections.unmodifiableMap(difficulties);
+        this.byTopicAndDifficulty = Collections.unmodifiableMap(topicDifficulties);
+    }
+
+    public static QuestionCatalog of(long version, Collection<Question> questions) {
+        return new QuestionCatalog(version, questions);
+    }
+
+    public QuestionCatalog with(Question added, long newVersion) {
+        List<Question> questions = new ArrayList<>(all.size() + 1);
+        for (Question question : all) {
+            if (!question.getId().equals(added.getId())) {
+                questions.add(question);
+            }
+        }
+        questions.add(added);
+        return new QuestionCatalog(newVersion, questions);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    public List<Question> all() {
+        return all;
+    }
+
+    public Question get(UUID id) {
+        return byId.get(id);
+    }
+
+    public List<Question> select(String topic, Difficulty difficulty) {
+        if (topic != null && difficulty != null) {
+            return byTopicAndDifficulty.getOrDefault(topic, Map.of()).getOrDefault(difficulty, List.of());
+        }
+        if (topic != null) {
+            return byTopic.getOrDefault(topic, List.of());
+        }
+        if (difficulty != null) {
+            return byDifficulty.getOrDefault(difficulty, List.of());
+        }
+        return all;
+    }
+
+    public CursorPage<Question> page(String topic, Difficulty difficulty, String search, QuestionCursor.Key after,
+            int limit) {
+        List<Question> selection = search == null || search.isBlank()
+                ? select(topic, difficulty)
+                : matching(select(topic, difficulty), search.strip().toLowerCase(Locale.ROOT));
+        int from = after == null ? 0 : firstAfter(selection, after);
+        int to = Math.min(from + limit, selection.size());
+        List<Question> items = selection.subList(from, to);
+        String nextCursor = to < selection.size() ? QuestionCursor.encode(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor, nextCursor != null, selection.size());
+    }
+
+    // Case-insensitive substring match on title or topic, keeping the (title, id) order
+    private static List<Question> matching(List<Question> selection, String search) {
+        List<Question> matches = new ArrayList<>();
+        for (Question question : selection) {
+            if (question.getTitle().toLowerCase(Locale.ROOT).contains(search)
+                    || question.getTopic().toLowerCase(Locale.ROOT).contains(search)) {
+                matches.add(question);
+            }
+        }
+        return matches;
+    }
+
+    private static int firstAfter(List<Question> sorted, QuestionCursor.Key after) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Question question = sorted.get(mid);
+            int cmp = question.getTitle().compareTo(after.title());
+            if (cmp == 0) {
+                cmp = question.getId().compareTo(after.id());
+            }
+            if (cmp <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,266 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.Recommendation;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.event.QuestionAddedEvent;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.UserQuestionStatus;
+import com.placement.platform.util.CompactBitSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Suggests what a student should solve next. Every question gets a stable
+ * dense ordinal, so a student's solved and attempted questions are compact
+ * bitsets and each topic and (topic, difficulty) pair is a bitmap over the
+ * bank. A recommendation is then a walk over the unsolved bits of each topic,
+ * scored by how weak the student is in that topic and whether the question
+ * sits at the first difficulty tier the student has not yet mastered. Nothing
+ * here queries the database after startup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    // Share of a (topic, difficulty) tier a student must solve before the next tier is suggested
+    private static final double TIER_MASTERY = 0.5;
+    private static final double TARGET_TIER_BONUS = 1.0;
+    private static final double LOWER_TIER_BONUS = 0.3;
+    private static final double ATTEMPTED_BONUS = 0.5;
+
+    private record TopicMasks(long[] all, int size, long[][] byDifficulty, int[] difficultySizes) {
+    }
+
+    private record QuestionBank(List<Question> byOrdinal, Map<UUID, Integer> ordinals, Map<String, TopicMasks> topics) {
+
+        static final QuestionBank EMPTY = new QuestionBank(List.of(), Map.of(), Map.of());
+
+        // Existing ordinals never move, so the bitsets already held for students stay valid
+        QuestionBank extend(Collection<Question> questions) {
+            List<Question> questionList = new ArrayList<>(byOrdinal);
+            Map<UUID, Integer> ordinalMap = new HashMap<>(ordinals);
+            for (Question question : questions) {
+                Integer ordinal = ordinalMap.get(question.getId());
+                if (ordinal == null) {
+                    ordinalMap.put(question.getId(), questionList.size());
+                    questionList.add(question);
+                } else {
+                    questionList.set(ordinal, question);
+                }
+            }
+            int words = (questionList.size() >>> 6) + 1;
+            Map<String, long[]> all = new HashMap<>();
+            Map<String, long[][]> byDifficulty = new HashMap<>();
+            for (int ordinal = 0; ordinal < questionList.size(); ordinal++) {
+                Question question = questionList.get(ordinal);
+                if (question.getTopic() == null || question.getDifficulty() == null) {
+                    continue;
+                }
+                all.computeIfAbsent(question.getTopic(), topic -> new long[words])[ordinal >>> 6] |= 1L << ordinal;
+                byDifficulty.computeIfAbsent(question.getTopic(), topic -> new long[DIFFICULTIES.length][words])
+                        [question.getDifficulty().ordinal()][ordinal >>> 6] |= 1L << ordinal;
+            }
+            Map<String, TopicMasks> topicMasks = new HashMap<>();
+            all.forEach((topic, mask) -> {
+                long[][] tiers = byDifficulty.get(topic);
+                int[] tierSizes = new int[DIFFICULTIES.length];
+                for (int tier = 0; tier < tiers.length; tier++) {
+                    tierSizes[tier] = cardinality(tiers[tier]);
+                }
+                topicMasks.put(topic, new TopicMasks(mask, cardinality(mask), tiers, tierSizes));
+            });
+            return new QuestionBank(Collections.unmodifiableList(questionList), Collections.unmodifiableMap(ordinalMap),
+                    Collections.unmodifiableMap(topicMasks));
+        }
+    }
+
+    private record StudentSets(CompactBitSet solved, CompactBitSet attempted) {
+
+        static final StudentSets EMPTY = new StudentSets(CompactBitSet.empty(), CompactBitSet.empty());
+
+        StudentSets with(int ordinal, Status status) {
+            return new StudentSets(
+                    status == Status.SOLVED ? solved.with(ordinal) : solved.without(ordinal),
+                    status == Status.ATTEMPTED ? attempted.with(ordinal) : attempted.without(ordinal));
+        }
+    }
+
+    // Swapped as a whole, so a reader never sees a half-loaded set of students
+    private record Model(QuestionBank bank, Map<UUID, StudentSets> students) {
+    }
+
+    private record Group(long[] mask, double score) {
+    }
+
+    private record Candidate(int ordinal, double score) {
+    }
+
+    private final DsaService dsaService;
+    private final UserProgressRepository userProgressRepository;
+    private final ProgressStatistics progressStatistics;
+
+    @Value("${application.dsa.recommendations.max-results:50}")
+    private int maxResults;
+
+    private final Object writeLock = new Object();
+    // The students map is written in place by events, so every instance starts with its own
+    private volatile Model model = new Model(QuestionBank.EMPTY, new ConcurrentHashMap<>());
+
+    // Progress writes are paused while the rows are read, so no event is both in them and applied on top
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        progressStatistics.withWritesPaused(() -> {
+            QuestionBank current;
+            synchronized (writeLock) {
+                current = model.bank().extend(dsaService.catalog().all());
+                model = new Model(current, model.students());
+            }
+            Map<UUID, StudentSets> loaded = new ConcurrentHashMap<>();
+            try (Stream<UserQuestionStatus> rows = userProgressRepository.streamStartedProgress()) {
+                rows.forEach(row -> {
+                    Integer ordinal = current.ordinals().get(row.getQuestionId());
+                    if (ordinal != null) {
+                        loaded.merge(row.getUserId(), StudentSets.EMPTY.with(ordinal, row.getStatus()),
+                                (existing, added) -> existing.with(ordinal, row.getStatus()));
+                    }
+                });
+            }
+            // Questions added meanwhile only extended the bank, so the ordinals above still hold
+            synchronized (writeLock) {
+                model = new Model(model.bank(), loaded);
+            }
+            log.info("Recommendation engine loaded {} questions and {} students", current.byOrdinal().size(),
+                    loaded.size());
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onQuestionAdded(QuestionAddedEvent event) {
+        synchronized (writeLock) {
+            model = new Model(model.bank().extend(List.of(event.question())), model.students());
+        }
+    }
+
+    @EventListener
+    public void onProgressChanged(ProgressChangedEvent event) {
+        synchronized (writeLock) {
+            Integer ordinal = model.bank().ordinals().get(event.questionId());
+            if (ordinal == null) {
+                return;
+            }
+            Map<UUID, StudentSets> students = model.students();
+            students.put(event.userId(), students.getOrDefault(event.userId(), StudentSets.EMPTY)
+                    .with(ordinal, event.current()));
+        }
+    }
+
+    public List<Recommendation> recommend(UUID userId, Integer limit) {
+        int size = limit == null ? 10 : Math.max(1, Math.min(limit, maxResults));
+        Model snapshot = model;
+        QuestionBank current = snapshot.bank();
+        StudentSets sets = snapshot.students().getOrDefault(userId, StudentSets.EMPTY);
+        PriorityQueue<Candidate> best = new PriorityQueue<>(size + 1, (a, b) -> a.score() != b.score()
+                ? Double.compare(a.score(), b.score())
+                : Integer.compare(b.ordinal(), a.ordinal()));
+        Map<String, Integer> targets = new HashMap<>();
+        List<Group> groups = new ArrayList<>();
+        current.topics().forEach((topic, masks) -> {
+            double weakness = 1.0 - (double) sets.solved().countIn(masks.all()) / masks.size();
+            int target = targetTier(sets.solved(), masks);
+            targets.put(topic, target);
+            for (int tier = 0; tier < DIFFICULTIES.length; tier++) {
+                double tierScore = weakness + (tier == target ? TARGET_TIER_BONUS : tier < target ? LOWER_TIER_BONUS : 0);
+                groups.add(new Group(masks.byDifficulty()[tier], tierScore));
+            }
+        });
+        // Best groups first, so once the heap is full whole groups that cannot beat it are skipped
+        groups.sort((a, b) -> Double.compare(b.score(), a.score()));
+        for (Group group : groups) {
+            if (best.size() == size && group.score() + ATTEMPTED_BONUS < best.peek().score()) {
+                break;
+            }
+            long[] mask = group.mask();
+            for (int word = 0; word < mask.length; word++) {
+                long bits = mask[word];
+                while (bits != 0) {
+                    int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (sets.solved().contains(ordinal)) {
+                        continue;
+                    }
+                    double score = sets.attempted().contains(ordinal) ? group.score() + ATTEMPTED_BONUS : group.score();
+                    Candidate candidate = new Candidate(ordinal, score);
+                    if (best.size() == size && best.comparator().compare(candidate, best.peek()) <= 0) {
+                        continue;
+                    }
+                    best.add(candidate);
+                    if (best.size() > size) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+        List<Recommendation> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Candidate candidate = best.poll();
+            Question question = current.byOrdinal().get(candidate.ordinal());
+            result.add(new Recommendation(question.getId(), question.getTitle(), question.getTopic(),
+                    question.getDifficulty(), candidate.score(),
+                    reason(question, targets.get(question.getTopic()), sets.attempted().contains(candidate.ordinal()))));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    // The easiest tier of the topic the student has not mastered yet; HARD once everything below is done
+    private static int targetTier(CompactBitSet solved, TopicMasks masks) {
+        for (int tier = 0; tier < DIFFICULTIES.length; tier++) {
+            int tierSize = masks.difficultySizes()[tier];
+            if (tierSize > 0 && solved.countIn(masks.byDifficulty()[tier]) < TIER_MASTERY * tierSize) {
+                return tier;
+            }
+        }
+        return DIFFICULTIES.length - 1;
+    }
+
+    private static String reason(Question question, int target, boolean attempted) {
+        if (attempted) {
+            return "Attempted but not solved yet";
+        }
+        if (question.getDifficulty().ordinal() == target) {
+            return "Next " + question.getDifficulty() + " step in " + question.getTopic();
+        }
+        return "Practice more " + question.getTopic();
+    }
+
+    private static int cardinality(long[] mask) {
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,207 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.RevisionItem;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.repository.UserProgressJdbcRepository;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.SolvedReview;
+import com.placement.platform.util.TimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Spaced-repetition revision of solved questions. Each solved question is due
+ * for review after the first interval; remembering it moves it to the next,
+ * longer interval, forgetting it starts over, and after the last interval it
+ * is retired. Pending reviews sit in a {@link TimingWheel} and move into a
+ * per-user due queue when their day comes, so due lists are answered from
+ * memory. Only the review step and next due time are persisted, on the
+ * progress row; a question never reviewed is due one interval after its
+ * solved_at, which is how the schedule is rebuilt at startup. The progress
+ * upsert sets solved_at and clears the schedule whenever a question is
+ * solved or stops being solved, so a re-solve always starts over.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevisionService {
+
+    private static final long TICK_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private record Key(UUID userId, UUID questionId) {
+    }
+
+    private record Due(int step, long dueMillis) {
+    }
+
+    private final DsaService dsaService;
+    private final UserProgressRepository userProgressRepository;
+    private final UserProgressJdbcRepository userProgressJdbcRepository;
+    private final ProgressStatistics progressStatistics;
+    private final Optional<ProgressWriteBuffer> writeBuffer;
+
+    @Value("${application.dsa.revision.intervals-days:1,3,7,14,30,60}")
+    private int[] intervalDays;
+
+    private final Object lock = new Object();
+    private TimingWheel<Key, Integer> wheel = new TimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+    private final Map<UUID, Map<UUID, Due>> due = new HashMap<>();
+
+    // Progress writes are paused while the rows are read, so no event is both in them and applied on top
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        progressStatistics.withWritesPaused(() -> {
+            synchronized (lock) {
+                long now = System.currentTimeMillis();
+                wheel = new TimingWheel<>(TICK_MILLIS, now);
+                due.clear();
+                try (Stream<SolvedReview> rows = userProgressRepository.streamSolvedReviews()) {
+                    rows.forEach(row -> {
+                        int step = row.getReviewStep() == null ? 0 : row.getReviewStep();
+                        if (step >= intervalDays.length) {
+                            return;
+                        }
+                        wheel.schedule(new Key(row.getUserId(), row.getQuestionId()), step, dueMillis(row, now));
+                    });
+                }
+                wheel.advance(endOfToday(now), this::moveToDue);
+                log.info("Revision schedule loaded: {} pending, {} users with reviews due", wheel.size(), due.size());
+            }
+            return null;
+        });
+    }
+
+    @EventListener
+    public void onProgressChanged(ProgressChangedEvent event) {
+        Key key = new Key(event.userId(), event.questionId());
+        if (event.current() == Status.SOLVED) {
+            synchronized (lock) {
+                removeDue(key);
+                wheel.schedule(key, 0, System.currentTimeMillis() + intervalMillis(0));
+            }
+        } else if (event.previous() == Status.SOLVED) {
+            synchronized (lock) {
+                removeDue(key);
+                wheel.cancel(key);
+            }
+        }
+    }
+
+    // Everything due by the end of today, oldest first
+    public List<RevisionItem> dueFor(UUID userId) {
+        List<Map.Entry<UUID, Due>> items;
+        synchronized (lock) {
+            wheel.advance(endOfToday(System.currentTimeMillis()), this::moveToDue);
+            items = new ArrayList<>(due.getOrDefault(userId, Map.of()).entrySet());
+        }
+        items.sort(Comparator.comparingLong(item -> item.getValue().dueMillis()));
+        QuestionCatalog catalog = dsaService.catalog();
+        List<RevisionItem> result = new ArrayList<>(items.size());
+        for (Map.Entry<UUID, Due> item : items) {
+            Question question = catalog.get(item.getKey());
+            if (question != null) {
+                result.add(toItem(question, item.getValue().step(), item.getValue().dueMillis()));
+            }
+        }
+        return result;
+    }
+
+    public RevisionItem review(UUID userId, UUID questionId, boolean remembered) {
+        Question question = dsaService.catalog().get(questionId);
+        if (question == null) {
+            throw new RuntimeException("Question not found");
+        }
+        Key key = new Key(userId, questionId);
+        Integer step;
+        synchronized (lock) {
+            Due dueItem = due.getOrDefault(userId, Map.of()).get(questionId);
+            step = dueItem != null ? Integer.valueOf(dueItem.step()) : wheel.get(key);
+        }
+        if (step == null) {
+            throw new RuntimeException("Question is not scheduled for revision");
+        }
+        int next = remembered ? step + 1 : 0;
+        Long nextDue = next < intervalDays.length ? System.currentTimeMillis() + intervalMillis(next) : null;
+        // A solve still in the write-behind buffer has no row yet, and flushing it later would reset the schedule
+        writeBuffer.filter(buffer -> buffer.pendingFor(userId).containsKey(questionId))
+                .ifPresent(ProgressWriteBuffer::flush);
+        if (!userProgressJdbcRepository.updateReview(userId, questionId, next,
+                nextDue == null ? null : toDateTime(nextDue))) {
+            throw new RuntimeException("Question is not scheduled for revision");
+        }
+        synchronized (lock) {
+            removeDue(key);
+            if (nextDue == null) {
+                wheel.cancel(key);
+            } else {
+                wheel.schedule(key, next, nextDue);
+            }
+        }
+        return toItem(question, next, nextDue);
+    }
+
+    private void moveToDue(Key key, Integer step, long dueMillis) {
+        due.computeIfAbsent(key.userId(), userId -> new HashMap<>()).put(key.questionId(), new Due(step, dueMillis));
+    }
+
+    private void removeDue(Key key) {
+        Map<UUID, Due> userDue = due.get(key.userId());
+        if (userDue != null && userDue.remove(key.questionId()) != null && userDue.isEmpty()) {
+            due.remove(key.userId());
+        }
+    }
+
+    // Rows solved before solved_at existed fall back to completed_at
+    private long dueMillis(SolvedReview row, long now) {
+        if (row.getNextReviewAt() != null) {
+            return toMillis(row.getNextReviewAt());
+        }
+        LocalDateTime solvedAt = row.getSolvedAt() != null ? row.getSolvedAt() : row.getCompletedAt();
+        return (solvedAt != null ? toMillis(solvedAt) : now) + intervalMillis(0);
+    }
+
+    private long intervalMillis(int step) {
+        return Duration.ofDays(intervalDays[step]).toMillis();
+    }
+
+    private static RevisionItem toItem(Question question, int step, Long dueMillis) {
+        return new RevisionItem(question.getId(), question.getTitle(), question.getTopic(), question.getDifficulty(),
+                step, dueMillis == null ? null : toDateTime(dueMillis));
+    }
+
+    private static long endOfToday(long now) {
+        ZoneId zone = ZoneId.systemDefault();
+        return LocalDate.ofInstant(Instant.ofEpochMilli(now), zone).plusDays(1).atStartOfDay(zone).toInstant()
+                .toEpochMilli();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,103 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.domain.Question;
+import com.placement.platform.dto.SearchHit;
+import com.placement.platform.event.InterviewQuestionAddedEvent;
+import com.placement.platform.event.QuestionAddedEvent;
+import com.placement.platform.repository.InterviewQuestionRepository;
+import com.placement.platform.util.InvertedIndex;
+import com.placement.platform.util.InvertedIndex.Field;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Full-text search over DSA and interview questions. The index is built once
+ * at startup and then kept current from the add-question events; searches
+ * never touch the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    public static final String TYPE_DSA = "DSA";
+    public static final String TYPE_INTERVIEW = "INTERVIEW";
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float TOPIC_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private final DsaService dsaService;
+    private final InterviewQuestionRepository interviewQuestionRepository;
+
+    @Value("${application.search.max-results:50}")
+    private int maxResults;
+
+    // Additions wait for a running rebuild, so none of them can land in an index that is about to be replaced
+    private final Object writeLock = new Object();
+    private volatile InvertedIndex<SearchHit> index = new InvertedIndex<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            InvertedIndex<SearchHit> rebuilt = new InvertedIndex<>();
+            dsaService.catalog().all().forEach(question -> add(rebuilt, question));
+            interviewQuestionRepository.findAll().forEach(question -> add(rebuilt, question));
+            index = rebuilt;
+            log.info("Search index built with {} documents", rebuilt.size());
+        }
+    }
+
+    @EventListener
+    public void onQuestionAdded(QuestionAddedEvent event) {
+        synchronized (writeLock) {
+            add(index, event.question());
+        }
+    }
+
+    @EventListener
+    public void onInterviewQuestionAdded(InterviewQuestionAddedEvent event) {
+        synchronized (writeLock) {
+            add(index, event.question());
+        }
+    }
+
+    public List<SearchHit> search(String query, String type, Integer limit) {
+        int size = limit == null ? 20 : Math.max(1, Math.min(limit, maxResults));
+        Predicate<SearchHit> filter = type == null ? null : hit -> hit.type().equalsIgnoreCase(type);
+        return index.search(query == null ? "" : query, size, filter).stream()
+                .map(hit -> withScore(hit.document(), hit.score()))
+                .toList();
+    }
+
+    private static void add(InvertedIndex<SearchHit> target, Question question) {
+        SearchHit document = new SearchHit(TYPE_DSA, question.getId(), question.getTitle(), question.getTopic(),
+                question.getDifficulty(), null, 0);
+        target.add(document.id(), document, List.of(
+                new Field(question.getTitle(), TITLE_WEIGHT),
+                new Field(question.getTopic(), TOPIC_WEIGHT),
+                new Field(question.getDescription(), DESCRIPTION_WEIGHT)));
+    }
+
+    private static void add(InvertedIndex<SearchHit> target, InterviewQuestion question) {
+        SearchHit document = new SearchHit(TYPE_INTERVIEW, question.getId(), question.getTitle(),
+                question.getTopic(), question.getDifficulty(),
+                question.getCompany() != null ? question.getCompany().getId() : null, 0);
+        target.add(document.id(), document, List.of(
+                new Field(question.getTitle(), TITLE_WEIGHT),
+                new Field(question.getTopic(), TOPIC_WEIGHT),
+                new Field(question.getDescription(), DESCRIPTION_WEIGHT)));
+    }
+
+    private static SearchHit withScore(SearchHit hit, float score) {
+        return new SearchHit(hit.type(), hit.id(), hit.title(), hit.topic(), hit.difficulty(), hit.companyId(), score);
+    }
+}
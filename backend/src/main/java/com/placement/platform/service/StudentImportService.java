@@ -0,0 +1,193 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Role;
+import com.placement.platform.dto.ImportReport;
+import com.placement.platform.event.ProfileUpdatedEvent;
+import com.placement.platform.event.StudentRegisteredEvent;
+import com.placement.platform.repository.UserRepository;
+import com.placement.platform.security.PasswordHashingExecutor;
+import com.placement.platform.util.ImportRecordReader;
+import com.placement.platform.util.ImportRecordReader.ImportRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bulk student onboarding. The upload is read row by row and processed in
+ * fixed-size chunks: passwords of a chunk are hashed in parallel on the
+ * bulk password-hashing pool, then users and their empty profiles are written with
+ * JDBC batch inserts. Bad rows are reported individually and never abort the
+ * rest of the import.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentImportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_USER = "INSERT INTO users (id, email, password, full_name, role, token_version) "
+            + "VALUES (?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_PROFILE = "INSERT INTO profiles (id, user_id, university, degree, graduation_year) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private record StudentRow(long row, String email, String fullName, String password,
+            String university, String degree, Integer graduationYear) {
+    }
+
+    public ImportReport importStudents(InputStream input, ImportRecordReader.Format format) throws IOException {
+        ImportReport report = new ImportReport();
+        List<StudentRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (ImportRecordReader reader = new ImportRecordReader(input, format)) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                report.setTotalRows(report.getTotalRows() + 1);
+                StudentRow row = toRow(record, report);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+        return report;
+    }
+
+    private StudentRow toRow(ImportRecord record, ImportReport report) {
+        if (record.error() != null) {
+            report.fail(record.row(), null, record.error());
+            return null;
+        }
+        String email = record.get("email");
+        String fullName = record.get("fullName");
+        String password = record.get("password");
+        if (email == null || !email.contains("@")) {
+            report.fail(record.row(), email, "Missing or invalid email");
+            return null;
+        }
+        if (fullName == null || password == null) {
+            report.fail(record.row(), email, "fullName and password are required");
+            return null;
+        }
+        Integer graduationYear = null;
+        if (record.get("graduationYear") != null) {
+            try {
+                graduationYear = Integer.valueOf(record.get("graduationYear"));
+            } catch (NumberFormatException e) {
+                report.fail(record.row(), email, "Invalid graduationYear");
+                return null;
+            }
+        }
+        return new StudentRow(record.row(), email, fullName, password,
+                record.get("university"), record.get("degree"), graduationYear);
+    }
+
+    private void importChunk(List<StudentRow> chunk, ImportReport report) {
+        Map<String, StudentRow> byEmail = new LinkedHashMap<>();
+        for (StudentRow row : chunk) {
+            if (byEmail.putIfAbsent(row.email(), row) != null) {
+                report.fail(row.row(), row.email(), "Duplicate email in upload");
+            }
+        }
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(byEmail.keySet()));
+        List<StudentRow> rows = new ArrayList<>(byEmail.size());
+        for (StudentRow row : byEmail.values()) {
+            if (existing.contains(row.email())) {
+                report.fail(row.row(), row.email(), "Email already registered");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> hashes = hashPasswords(rows);
+        List<Object[]> users = new ArrayList<>(rows.size());
+        List<Object[]> profiles = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            StudentRow row = rows.get(i);
+            UUID userId = UUID.randomUUID();
+            users.add(new Object[] { userId, row.email(), hashes.get(i), row.fullName(), Role.STUDENT.name() });
+            profiles.add(new Object[] { UUID.randomUUID(), userId, row.university(), row.degree(),
+                    row.graduationYear() });
+        }
+        try {
+            insert(users, profiles);
+            report.setImported(report.getImported() + rows.size());
+            profiles.forEach(this::publishImported);
+        } catch (DataIntegrityViolationException e) {
+            // Someone registered one of these emails meanwhile; fall back to row-by-row to isolate it
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    insert(Collections.singletonList(users.get(i)), Collections.singletonList(profiles.get(i)));
+                    report.setImported(report.getImported() + 1);
+                    publishImported(profiles.get(i));
+                } catch (DataIntegrityViolationException rowFailure) {
+                    report.fail(rows.get(i).row(), rows.get(i).email(), "Email already registered");
+                }
+            }
+        }
+    }
+
+    private void insert(List<Object[]> users, List<Object[]> profiles) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_USER, users);
+            jdbcTemplate.batchUpdate(INSERT_PROFILE, profiles);
+        });
+    }
+
+    // Profile rows are {id, userId, university, degree, graduationYear}
+    private void publishImported(Object[] profile) {
+        eventPublisher.publishEvent(new StudentRegisteredEvent((UUID) profile[1]));
+        eventPublisher.publishEvent(new ProfileUpdatedEvent((UUID) profile[1], (Integer) profile[4],
+                (String) profile[2]));
+    }
+
+    private List<String> hashPasswords(List<StudentRow> rows) {
+        int slices = Math.min(passwordHashingExecutor.bulkParallelism(), rows.size());
+        int sliceSize = (rows.size() + slices - 1) / slices;
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < rows.size(); from += sliceSize) {
+            List<StudentRow> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+            futures.add(passwordHashingExecutor.submitBulk(() -> {
+                List<String> hashes = new ArrayList<>(slice.size());
+                for (StudentRow row : slice) {
+                    hashes.add(passwordEncoder.encode(row.password()));
+                }
+                return hashes;
+            }));
+        }
+        List<String> hashes = new ArrayList<>(rows.size());
+        for (CompletableFuture<List<String>> future : futures) {
+            hashes.addAll(future.join());
+        }
+        return hashes;
+    }
+}
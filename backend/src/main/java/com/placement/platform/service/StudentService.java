@@ -2,32 +2,31 @@ package com.placement.platform.service;
 
 import com.placement.platform.domain.Profile;
 import com.placement.platform.domain.User;
+import com.placement.platform.event.ProfileUpdatedEvent;
 import com.placement.platform.repository.ProfileRepository;
 import com.placement.platform.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class StudentService {
 
         private final ProfileRepository profileRepository;
         private final UserRepository userRepository;
+        private final ApplicationEventPublisher eventPublisher;
 
-        public Profile getProfile(String email) {
-                User user = userRepository.findByEmail(email)
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-
-                return profileRepository.findByUser(user)
-                                .orElseGet(() -> createEmptyProfile(user));
+        public Profile getProfile(UUID userId) {
+                return profileRepository.findByUserId(userId)
+                                .orElseGet(() -> createEmptyProfile(userId));
         }
 
-        public Profile updateProfile(String email, Profile updatedProfile) {
-                User user = userRepository.findByEmail(email)
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-
-                Profile profile = profileRepository.findByUser(user)
-                                .orElseGet(() -> createEmptyProfile(user));
+        public Profile updateProfile(UUID userId, Profile updatedProfile) {
+                Profile profile = profileRepository.findByUserId(userId)
+                                .orElseGet(() -> createEmptyProfile(userId));
 
                 profile.setResumeUrl(updatedProfile.getResumeUrl());
                 profile.setSkills(updatedProfile.getSkills());
@@ -37,13 +36,21 @@ public class StudentService {
                 profile.setGithubProfile(updatedProfile.getGithubProfile());
                 profile.setLinkedinProfile(updatedProfile.getLinkedinProfile());
 
-                return profileRepository.save(profile);
+                Profile saved = profileRepository.save(profile);
+                eventPublisher.publishEvent(new ProfileUpdatedEvent(userId, saved.getGraduationYear(),
+                                saved.getUniversity()));
+                return saved;
         }
 
-        private Profile createEmptyProfile(User user) {
+        // Only runs once per user; the profile response needs the user's name and email
+        private Profile createEmptyProfile(UUID userId) {
+                User user = userRepository.findById(userId)
+                                .orElseThrow(() -> new RuntimeException("User not found"));
                 Profile profile = Profile.builder()
                                 .user(user)
                                 .build();
-                return profileRepository.save(profile);
+                Profile saved = profileRepository.save(profile);
+                eventPublisher.publishEvent(new ProfileUpdatedEvent(userId, null, null));
+                return saved;
         }
 }
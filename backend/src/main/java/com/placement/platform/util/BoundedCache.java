@@ -0,0 +1,91 @@
+package com.placement.platform.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Small concurrent cache with a hard size bound and optional per-entry expiry.
+ * Expired entries are dropped on read; when the bound is reached, expired
+ * entries are swept first and arbitrary entries are evicted after that.
+ */
+public class BoundedCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+
+    public BoundedCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    public BoundedCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl != null ? ttl.toMillis() : 0;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE);
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        int target = maxSize - Math.max(1, maxSize / 4);
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.placement.platform.util;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of small non-negative ints that picks the cheaper of two
+ * layouts: a sorted char array (2 bytes per member) while the set is sparse,
+ * and a plain bitmap once the array would be larger than the bitmap. A student
+ * with a few dozen solved questions costs a few dozen bytes instead of a
+ * bitmap sized to the whole question bank. Updates return a new instance.
+ */
+public final class CompactBitSet {
+
+    private static final CompactBitSet EMPTY = new CompactBitSet(new char[0], null, 0);
+    private static final int MAX_ARRAY_VALUE = Character.MAX_VALUE;
+
+    private final char[] members;
+    private final long[] words;
+    private final int cardinality;
+
+    private CompactBitSet(char[] members, long[] words, int cardinality) {
+        this.members = members;
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    public static CompactBitSet empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(int value) {
+        if (words != null) {
+            int word = value >>> 6;
+            return word < words.length && (words[word] & (1L << value)) != 0;
+        }
+        return value <= MAX_ARRAY_VALUE && Arrays.binarySearch(members, (char) value) >= 0;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public CompactBitSet with(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value " + value);
+        }
+        if (contains(value)) {
+            return this;
+        }
+        if (words != null) {
+            long[] updated = Arrays.copyOf(words, Math.max(words.length, (value >>> 6) + 1));
+            updated[value >>> 6] |= 1L << value;
+            return new CompactBitSet(null, updated, cardinality + 1);
+        }
+        int max = Math.max(value, members.length == 0 ? 0 : members[members.length - 1]);
+        if (value > MAX_ARRAY_VALUE || (long) (cardinality + 1) * Character.BYTES > bitmapBytes(max)) {
+            long[] bitmap = new long[(max >>> 6) + 1];
+            for (char member : members) {
+                bitmap[member >>> 6] |= 1L << member;
+            }
+            bitmap[value >>> 6] |= 1L << value;
+            return new CompactBitSet(null, bitmap, cardinality + 1);
+        }
+        int insertAt = -Arrays.binarySearch(members, (char) value) - 1;
+        char[] updated = new char[members.length + 1];
+        System.arraycopy(members, 0, updated, 0, insertAt);
+        updated[insertAt] = (char) value;
+        System.arraycopy(members, insertAt, updated, insertAt + 1, members.length - insertAt);
+        return new CompactBitSet(updated, null, cardinality + 1);
+    }
+
+    public CompactBitSet without(int value) {
+        if (!contains(value)) {
+            return this;
+        }
+        if (words != null) {
+            long[] updated = words.clone();
+            updated[value >>> 6] &= ~(1L << value);
+            return new CompactBitSet(null, updated, cardinality - 1);
+        }
+        int at = Arrays.binarySearch(members, (char) value);
+        char[] updated = new char[members.length - 1];
+        System.arraycopy(members, 0, updated, 0, at);
+        System.arraycopy(members, at + 1, updated, at, members.length - at - 1);
+        return cardinality == 1 ? EMPTY : new CompactBitSet(updated, null, cardinality - 1);
+    }
+
+    /** Number of members that are also set in the given bitmap. */
+    public int countIn(long[] mask) {
+        int count = 0;
+        if (words != null) {
+            for (int i = 0; i < Math.min(words.length, mask.length); i++) {
+                count += Long.bitCount(words[i] & mask[i]);
+            }
+            return count;
+        }
+        for (char member : members) {
+            int word = member >>> 6;
+            if (word < mask.length && (mask[word] & (1L << member)) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Approximate heap footprint of the members, object headers excluded. */
+    public int sizeInBytes() {
+        return words != null ? words.length * Long.BYTES : members.length * Character.BYTES;
+    }
+
+    private static long bitmapBytes(int maxValue) {
+        return ((long) (maxValue >>> 6) + 1) * Long.BYTES;
+    }
+}
@@ -0,0 +1,177 @@
+package com.placement.platform.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads an upload one record at a time so imports run in constant memory.
+ * CSV input needs a header row; NDJSON input is one flat JSON object per line.
+ * A quoted CSV field may span lines, as spreadsheet exports write multi-line
+ * cells, so a record covers rows {@code row} to {@code lastRow} of the input.
+ * Blank lines are skipped; a malformed record yields one carrying an error
+ * instead of aborting the whole import.
+ */
+public class ImportRecordReader implements Closeable {
+
+    public enum Format {
+        CSV,
+        NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null && (contentType.contains("ndjson") || contentType.contains("json"))) {
+                return NDJSON;
+            }
+            return CSV;
+        }
+    }
+
+    // row and lastRow count input lines after the header; they differ only for multi-line quoted fields
+    public record ImportRecord(long row, long lastRow, Map<String, String> fields, String error) {
+
+        public String get(String field) {
+            String value = fields.get(field);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // An unclosed quote would otherwise pull the rest of the upload into one record
+    private static final int MAX_RECORD_CHARS = 1 << 20;
+
+    private final BufferedReader reader;
+    private final Format format;
+    private List<String> header;
+    private long row;
+
+    public ImportRecordReader(InputStream input, Format format) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+    }
+
+    // Returns null once the input is exhausted
+    public ImportRecord next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                row++;
+                continue;
+            }
+            if (format == Format.CSV && header == null) {
+                header = parseCsv(line.startsWith("\uFEFF") ? line.substring(1) : line);
+                continue;
+            }
+            long first = ++row;
+            try {
+                if (format == Format.NDJSON) {
+                    return new ImportRecord(first, first, jsonRecord(line), null);
+                }
+                String text = csvText(line);
+                return new ImportRecord(first, row, csvRecord(text), null);
+            } catch (IllegalArgumentException | IOException e) {
+                String span = row == first ? "" : " (rows " + first + "-" + row + ")";
+                return new ImportRecord(first, row, Map.of(), "Malformed row: " + e.getMessage() + span);
+            }
+        }
+        return null;
+    }
+
+    // Keeps reading lines while a quoted field is open; each quote flips the state, "" flips it twice
+    private String csvText(String line) throws IOException {
+        boolean open = oddQuotes(line);
+        if (!open) {
+            return line;
+        }
+        StringBuilder text = new StringBuilder(line);
+        String next;
+        while (open && (next = reader.readLine()) != null) {
+            row++;
+            if (text.length() + next.length() >= MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException("quoted field is not closed within " + MAX_RECORD_CHARS
+                        + " characters");
+            }
+            text.append('\n').append(next);
+            open ^= oddQuotes(next);
+        }
+        return text.toString();
+    }
+
+    private static boolean oddQuotes(String line) {
+        boolean odd = false;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                odd = !odd;
+            }
+        }
+        return odd;
+    }
+
+    private Map<String, String> csvRecord(String text) {
+        List<String> values = parseCsv(text);
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            fields.put(header.get(i).trim(), values.get(i));
+        }
+        return fields;
+    }
+
+    private Map<String, String> jsonRecord(String line) throws IOException {
+        JsonNode node = OBJECT_MAPPER.readTree(line);
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("expected a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        node.fields().forEachRemaining(entry -> {
+            if (!entry.getValue().isNull()) {
+                fields.put(entry.getKey(), entry.getValue().asText());
+            }
+        });
+        return fields;
+    }
+
+    static List<String> parseCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
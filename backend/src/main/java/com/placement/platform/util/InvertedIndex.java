@@ -0,0 +1,225 @@
+package com.placement.platform.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory full-text index with BM25 ranking. Each document is a set of
+ * weighted text fields (a title hit can count more than a description hit);
+ * weighted term frequencies are summed per document before scoring. The last
+ * query token also matches as a prefix, so results show up while the user is
+ * still typing. Re-adding a key replaces the earlier document in place: its
+ * postings are purged and its slot is reused, so document frequencies and the
+ * score array only ever cover live documents.
+ * <p>
+ * Documents are added under a write lock; searches share a read lock.
+ */
+public class InvertedIndex<D> {
+
+    public record Field(String text, float weight) {
+    }
+
+    public record Hit<D>(D document, float score) {
+    }
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float PREFIX_WEIGHT = 0.7f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "in", "is", "it", "of", "on", "or", "that", "the", "this", "to", "with");
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(int doc, float frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        // Order within a postings list does not matter to scoring
+        void remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    size--;
+                    docs[i] = docs[size];
+                    frequencies[i] = frequencies[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Object, Integer> docByKey = new HashMap<>();
+    private final List<D> documents = new ArrayList<>();
+    private float[] lengths = new float[16];
+    private String[][] docTerms = new String[16][];
+    private double totalLength;
+
+    public void add(Object key, D document, List<Field> fields) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        for (Field field : fields) {
+            for (String token : tokenize(field.text())) {
+                frequencies.merge(token, field.weight(), Float::sum);
+                length += field.weight();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByKey.get(key);
+            int doc;
+            if (previous != null) {
+                doc = previous;
+                purge(doc);
+                documents.set(doc, document);
+            } else {
+                doc = documents.size();
+                documents.add(document);
+                docByKey.put(key, doc);
+                if (doc == lengths.length) {
+                    lengths = Arrays.copyOf(lengths, doc * 2);
+                    docTerms = Arrays.copyOf(docTerms, doc * 2);
+                }
+            }
+            lengths[doc] = length;
+            docTerms[doc] = frequencies.keySet().toArray(String[]::new);
+            totalLength += length;
+            frequencies.forEach((term, frequency) -> terms.computeIfAbsent(term, t -> new Postings()).add(doc, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void purge(int doc) {
+        totalLength -= lengths[doc];
+        for (String term : docTerms[doc]) {
+            Postings postings = terms.get(term);
+            postings.remove(doc);
+            if (postings.size == 0) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit<D>> search(String query, int limit, Predicate<D> filter) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean prefixLast = !query.isEmpty() && Character.isLetterOrDigit(query.charAt(query.length() - 1));
+        lock.readLock().lock();
+        try {
+            float[] scores = new float[documents.size()];
+            float averageLength = documents.isEmpty() ? 1 : (float) (totalLength / documents.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                Postings exact = terms.get(token);
+                if (exact != null) {
+                    accumulate(exact, 1f, averageLength, scores);
+                }
+                if (prefixLast && i == tokens.size() - 1) {
+                    int expansions = 0;
+                    for (Map.Entry<String, Postings> entry : terms.tailMap(token, false).entrySet()) {
+                        if (!entry.getKey().startsWith(token) || expansions++ == MAX_PREFIX_EXPANSIONS) {
+                            break;
+                        }
+                        accumulate(entry.getValue(), PREFIX_WEIGHT, averageLength, scores);
+                    }
+                }
+            }
+            return top(scores, limit, filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(Postings postings, float weight, float averageLength, float[] scores) {
+        int count = documents.size();
+        float idf = (float) Math.log(1 + (count - postings.size + 0.5) / (postings.size + 0.5));
+        for (int i = 0; i < postings.size; i++) {
+            int doc = postings.docs[i];
+            float frequency = postings.frequencies[i];
+            float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            scores[doc] += weight * idf * frequency * (K1 + 1) / (frequency + norm);
+        }
+    }
+
+    private List<Hit<D>> top(float[] scores, int limit, Predicate<D> filter) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, (a, b) -> Float.compare(scores[a], scores[b]));
+        for (int doc = 0; doc < scores.length; doc++) {
+            if (scores[doc] <= 0) {
+                continue;
+            }
+            if (heap.size() == limit && scores[doc] <= scores[heap.peek()]) {
+                continue;
+            }
+            if (filter != null && !filter.test(documents.get(doc))) {
+                continue;
+            }
+            heap.add(doc);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Hit<D>> hits = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            int doc = heap.poll();
+            hits.add(new Hit<>(documents.get(doc), scores[doc]));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean word = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                String token = lower.substring(start, i);
+                if (!STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,311 @@
+package com.placement.platform.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Near-duplicate index over short texts. A text is lower-cased, stripped of
+ * punctuation and stop words, and cut into character 3-grams; its MinHash
+ * signature estimates the Jaccard similarity of two such shingle sets as the
+ * fraction of positions where the signatures agree. Signatures are split into
+ * bands, and two texts are compared only when some band matches exactly, so
+ * lookups touch a handful of candidates instead of every document. With 32
+ * bands of 3 rows a pair at similarity 0.5 is a candidate 98% of the time and
+ * a pair at 0.2 only 23% of the time.
+ * <p>
+ * Documents are added under a write lock; lookups share a read lock.
+ */
+public class MinHashIndex<K> {
+
+    public record Match<K>(K key, double similarity) {
+    }
+
+    // The document most others in the group match, then the rest by similarity to it
+    public record Group<K>(K representative, List<Match<K>> members) {
+    }
+
+    private static final int BANDS = 32;
+    private static final int ROWS = 3;
+    private static final int HASHES = BANDS * ROWS;
+    private static final int SHINGLE = 3;
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "in", "is", "it", "of", "on", "or", "that", "the", "this", "to", "with");
+
+    // a * x + b over 64 bits, keeping the high half; a is odd so every function is a permutation
+    private static final long[] MULTIPLIERS = new long[HASHES];
+    private static final long[] INCREMENTS = new long[HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5eed5eedL);
+        for (int i = 0; i < HASHES; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1;
+            INCREMENTS[i] = random.nextLong();
+        }
+    }
+
+    private static final class Bucket {
+        private int[] docs = new int[2];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        void remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    docs[i] = docs[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private final List<K> keys = new ArrayList<>();
+    private final List<int[]> signatures = new ArrayList<>();
+    private final Map<K, Integer> docByKey = new HashMap<>();
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Re-adding a key replaces its earlier text; a text without letters or digits is not indexed
+    public void put(K key, String... texts) {
+        int[] signature = signature(texts);
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByKey.remove(key);
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (signature == null) {
+                return;
+            }
+            int doc = keys.size();
+            keys.add(key);
+            signatures.add(signature);
+            docByKey.put(key, doc);
+            for (int band = 0; band < BANDS; band++) {
+                buckets.computeIfAbsent(bandKey(signature, band), bandKey -> new Bucket()).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(K key) {
+        lock.readLock().lock();
+        try {
+            return docByKey.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Indexed documents at least minSimilarity alike to the given key, most similar first
+    public List<Match<K>> similar(K key, double minSimilarity, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer doc = docByKey.get(key);
+            if (doc == null || limit <= 0) {
+                return List.of();
+            }
+            List<Match<K>> matches = new ArrayList<>();
+            for (int candidate : candidates(doc)) {
+                double similarity = similarity(signatures.get(doc), signatures.get(candidate));
+                if (similarity >= minSimilarity) {
+                    matches.add(new Match<>(keys.get(candidate), similarity));
+                }
+            }
+            matches.sort(Comparator.comparingDouble((Match<K> match) -> match.similarity()).reversed());
+            return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Clusters of documents linked by pairs at least minSimilarity alike, largest first
+    public List<Group<K>> groups(double minSimilarity) {
+        lock.readLock().lock();
+        try {
+            int[] parents = new int[keys.size()];
+            int[] degrees = new int[keys.size()];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = i;
+            }
+            for (int doc : docByKey.values()) {
+                for (int candidate : candidates(doc)) {
+                    if (candidate > doc && similarity(signatures.get(doc), signatures.get(candidate)) >= minSimilarity) {
+                        degrees[doc]++;
+                        degrees[candidate]++;
+                        parents[find(parents, doc)] = find(parents, candidate);
+                    }
+                }
+            }
+            Map<Integer, List<Integer>> clusters = new HashMap<>();
+            for (int doc : docByKey.values()) {
+                if (degrees[doc] > 0) {
+                    clusters.computeIfAbsent(find(parents, doc), root -> new ArrayList<>()).add(doc);
+                }
+            }
+            List<Group<K>> groups = new ArrayList<>(clusters.size());
+            for (List<Integer> cluster : clusters.values()) {
+                int representative = cluster.get(0);
+                for (int doc : cluster) {
+                    if (degrees[doc] > degrees[representative]) {
+                        representative = doc;
+                    }
+                }
+                List<Match<K>> members = new ArrayList<>(cluster.size() - 1);
+                for (int doc : cluster) {
+                    if (doc != representative) {
+                        members.add(new Match<>(keys.get(doc),
+                                similarity(signatures.get(representative), signatures.get(doc))));
+                    }
+                }
+                members.sort(Comparator.comparingDouble((Match<K> match) -> match.similarity()).reversed());
+                groups.add(new Group<>(keys.get(representative), members));
+            }
+            groups.sort(Comparator.comparingInt((Group<K> group) -> group.members().size()).reversed());
+            return groups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Integer> candidates(int doc) {
+        int[] signature = signatures.get(doc);
+        Set<Integer> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Bucket bucket = buckets.get(bandKey(signature, band));
+            for (int i = 0; i < bucket.size; i++) {
+                if (bucket.docs[i] != doc) {
+                    candidates.add(bucket.docs[i]);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void unlink(int doc) {
+        int[] signature = signatures.get(doc);
+        for (int band = 0; band < BANDS; band++) {
+            long bandKey = bandKey(signature, band);
+            Bucket bucket = buckets.get(bandKey);
+            bucket.remove(doc);
+            if (bucket.size == 0) {
+                buckets.remove(bandKey);
+            }
+        }
+        // The slot stays so later doc numbers keep their meaning
+        keys.set(doc, null);
+        signatures.set(doc, null);
+    }
+
+    private static int find(int[] parents, int doc) {
+        while (parents[doc] != doc) {
+            parents[doc] = parents[parents[doc]];
+            doc = parents[doc];
+        }
+        return doc;
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / HASHES;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        int hash = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = hash * 0x9e3779b1 + signature[row];
+        }
+        return ((long) band << 32) | (hash & 0xffffffffL);
+    }
+
+    static int[] signature(String... texts) {
+        String normalized = normalize(texts);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, normalized.length() - SHINGLE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = 0;
+            for (int i = start; i < Math.min(start + SHINGLE, normalized.length()); i++) {
+                shingle = (shingle << 16) | normalized.charAt(i);
+            }
+            shingle = mix(shingle);
+            for (int i = 0; i < HASHES; i++) {
+                int hash = (int) ((MULTIPLIERS[i] * shingle + INCREMENTS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // Lower-case words without stop words, single-space separated, texts joined end to end
+    static String normalize(String... texts) {
+        StringBuilder normalized = new StringBuilder();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            String lower = text.toLowerCase(Locale.ROOT);
+            int start = -1;
+            for (int i = 0; i <= lower.length(); i++) {
+                boolean word = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+                if (word && start < 0) {
+                    start = i;
+                } else if (!word && start >= 0) {
+                    String token = lower.substring(start, i);
+                    if (!STOP_WORDS.contains(token)) {
+                        if (!normalized.isEmpty()) {
+                            normalized.append(' ');
+                        }
+                        normalized.append(token);
+                    }
+                    start = -1;
+                }
+            }
+        }
+        return normalized.toString();
+    }
+
+    // Murmur3 finalizer, so shingles differing in one character land far apart
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93e53ad8a4bL;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,40 @@
+package com.placement.platform.util;
+
+import com.placement.platform.domain.Question;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque cursor over the (title, id) sort key of the question listing.
+public final class QuestionCursor {
+
+    private static final char SEPARATOR = '\u0000';
+
+    public record Key(String title, UUID id) {
+    }
+
+    private QuestionCursor() {
+    }
+
+    public static String encode(Question last) {
+        String raw = last.getTitle() + SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Null for the first page
+    public static Key decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new Key(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.placement.platform.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Ranks users by a small non-negative integer score (e.g. solved count). A
+ * Fenwick tree over score buckets counts users per score, so "how many users
+ * score above s" and "which bucket holds position p" are O(log maxScore). Each
+ * bucket keeps its members in an array with swap-remove, giving every ranked
+ * user a position; ties share a rank (1, 2, 2, 4). Users with score 0 are not
+ * stored and rank last.
+ * <p>
+ * Writes are serialized; reads run optimistically without locking and only
+ * fall back to a read lock if a write overlapped them.
+ */
+public class RankIndex {
+
+    public record Ranked(UUID userId, int score, long rank) {
+    }
+
+    private static final class Slot {
+        private int score;
+        private int index;
+    }
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+    private long[] tree;
+    private List<UUID>[] buckets;
+    private int size;
+
+    public RankIndex() {
+        this(Map.of());
+    }
+
+    /** Bulk load in O(users + maxScore). */
+    public RankIndex(Map<UUID, Integer> scores) {
+        int maxScore = 16;
+        for (int score : scores.values()) {
+            maxScore = Math.max(maxScore, score);
+        }
+        allocate(maxScore);
+        scores.forEach((userId, score) -> {
+            if (score > 0) {
+                insert(userId, score);
+            }
+        });
+        for (int score = 1; score < tree.length; score++) {
+            tree[score] = buckets[score] == null ? 0 : buckets[score].size();
+        }
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    public void adjust(UUID userId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            Slot slot = slots.get(userId);
+            int current = slot == null ? 0 : slot.score;
+            move(userId, current, Math.max(0, current + delta));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void set(UUID userId, int score) {
+        long stamp = lock.writeLock();
+        try {
+            Slot slot = slots.get(userId);
+            move(userId, slot == null ? 0 : slot.score, Math.max(0, score));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return read(() -> size);
+    }
+
+    public Ranked rankOf(UUID userId) {
+        return read(() -> {
+            Slot slot = slots.get(userId);
+            if (slot == null || slot.score == 0) {
+                return new Ranked(userId, 0, size + 1L);
+            }
+            return new Ranked(userId, slot.score, above(slot.score) + 1L);
+        });
+    }
+
+    /** Users at positions [offset, offset + limit) counted from the top. */
+    public List<Ranked> range(long offset, int limit) {
+        return read(() -> {
+            List<Ranked> result = new ArrayList<>(Math.max(0, Math.min(limit, size)));
+            for (long position = Math.max(0, offset); position < size && result.size() < limit; position++) {
+                result.add(at(position));
+            }
+            return result;
+        });
+    }
+
+    /** Up to {@code window} users on either side of the given user, the user included. */
+    public List<Ranked> around(UUID userId, int window) {
+        long position = read(() -> {
+            Slot slot = slots.get(userId);
+            return slot == null || slot.score == 0 ? (long) size : above(slot.score) + slot.index;
+        });
+        long from = Math.max(0, position - window);
+        return range(from, (int) (position + window + 1 - from));
+    }
+
+    private <T> T read(Supplier<T> read) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = read.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException concurrentWrite) {
+                // A writer moved things under us; retry below with the lock held
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return read.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Ranked at(long position) {
+        // Position p from the top is ascending position size - 1 - p
+        long target = size - 1 - position;
+        int score = 0;
+        long before = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = score + step;
+            if (next < tree.length && before + tree[next] <= target) {
+                score = next;
+                before += tree[next];
+            }
+        }
+        score++;
+        long aboveScore = above(score);
+        UUID userId = buckets[score].get((int) (position - aboveScore));
+        return new Ranked(userId, score, aboveScore + 1);
+    }
+
+    private long above(int score) {
+        return size - prefix(score);
+    }
+
+    private long prefix(int score) {
+        long total = 0;
+        for (int i = Math.min(score, tree.length - 1); i > 0; i -= i & -i) {
+            total += tree[i];
+        }
+        return total;
+    }
+
+    private void move(UUID userId, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        if (from > 0) {
+            remove(userId, from);
+            update(from, -1);
+        }
+        if (to > 0) {
+            if (to >= tree.length) {
+                grow(to);
+            }
+            insert(userId, to);
+            update(to, 1);
+        }
+    }
+
+    private void insert(UUID userId, int score) {
+        List<UUID> bucket = buckets[score];
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets[score] = bucket;
+        }
+        Slot slot = slots.computeIfAbsent(userId, id -> new Slot());
+        slot.score = score;
+        slot.index = bucket.size();
+        bucket.add(userId);
+        size++;
+    }
+
+    private void remove(UUID userId, int score) {
+        List<UUID> bucket = buckets[score];
+        Slot slot = slots.remove(userId);
+        UUID last = bucket.remove(bucket.size() - 1);
+        if (!last.equals(userId)) {
+            bucket.set(slot.index, last);
+            slots.get(last).index = slot.index;
+        }
+        size--;
+    }
+
+    private void update(int score, int delta) {
+        for (int i = score; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void allocate(int maxScore) {
+        tree = new long[maxScore + 1];
+        buckets = new List[maxScore + 1];
+    }
+
+    private void grow(int score) {
+        List<UUID>[] oldBuckets = buckets;
+        allocate(Math.max(score, 2 * (oldBuckets.length - 1)));
+        System.arraycopy(oldBuckets, 0, buckets, 0, oldBuckets.length);
+        for (int i = 1; i < oldBuckets.length; i++) {
+            if (buckets[i] != null) {
+                update(i, buckets[i].size());
+            }
+        }
+    }
+}
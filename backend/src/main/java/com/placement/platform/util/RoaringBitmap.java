@@ -0,0 +1,384 @@
+package com.placement.platform.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed bitmap of non-negative ints in the Roaring layout: values are
+ * split by their high 16 bits into chunks, and each chunk keeps its low 16
+ * bits either as a sorted char array (up to 4096 values, 2 bytes each) or as
+ * a 1024-word bitmap (8 KiB, any density). Intersections and their
+ * cardinalities are computed chunk by chunk without decompressing.
+ * <p>
+ * Not thread-safe; callers guard shared instances.
+ */
+public class RoaringBitmap {
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final int SCRATCH_THRESHOLD = 256;
+    private static final ThreadLocal<long[]> SCRATCH = ThreadLocal.withInitial(() -> new long[BITMAP_WORDS]);
+
+    private char[] keys = new char[0];
+    private Object[] chunks = new Object[0];
+    private int[] cardinalities = new int[0];
+    private int chunkCount;
+
+    public void add(int value) {
+        char high = high(value);
+        char low = (char) value;
+        int at = find(high);
+        if (at < 0) {
+            at = -at - 1;
+            insertChunk(at, high, new char[] { low }, 1);
+            return;
+        }
+        Object chunk = chunks[at];
+        int cardinality = cardinalities[at];
+        if (chunk instanceof long[] words) {
+            if ((words[low >>> 6] & (1L << low)) == 0) {
+                words[low >>> 6] |= 1L << low;
+                cardinalities[at]++;
+            }
+            return;
+        }
+        char[] values = (char[]) chunk;
+        int position = Arrays.binarySearch(values, 0, cardinality, low);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        if (cardinality == ARRAY_LIMIT) {
+            long[] words = toWords(values, cardinality);
+            words[low >>> 6] |= 1L << low;
+            chunks[at] = words;
+        } else {
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, Math.max(4, cardinality * 2)));
+                chunks[at] = values;
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = low;
+        }
+        cardinalities[at]++;
+    }
+
+    public void remove(int value) {
+        int at = find(high(value));
+        if (at < 0) {
+            return;
+        }
+        char low = (char) value;
+        Object chunk = chunks[at];
+        int cardinality = cardinalities[at];
+        if (chunk instanceof long[] words) {
+            if ((words[low >>> 6] & (1L << low)) == 0) {
+                return;
+            }
+            words[low >>> 6] &= ~(1L << low);
+            cardinalities[at]--;
+            if (cardinalities[at] <= ARRAY_LIMIT / 2) {
+                chunks[at] = toValues(words, cardinalities[at]);
+            }
+        } else {
+            char[] values = (char[]) chunk;
+            int position = Arrays.binarySearch(values, 0, cardinality, low);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+            cardinalities[at]--;
+        }
+        if (cardinalities[at] == 0) {
+            removeChunk(at);
+        }
+    }
+
+    public boolean contains(int value) {
+        int at = find(high(value));
+        if (at < 0) {
+            return false;
+        }
+        char low = (char) value;
+        if (chunks[at] instanceof long[] words) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) chunks[at], 0, cardinalities[at], low) >= 0;
+    }
+
+    public long cardinality() {
+        long total = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            total += cardinalities[i];
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < chunkCount; i++) {
+            int base = keys[i] << 16;
+            if (chunks[i] instanceof long[] words) {
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    long bits = words[word];
+                    while (bits != 0) {
+                        consumer.accept(base | (word << 6) + Long.numberOfTrailingZeros(bits));
+                        bits &= bits - 1;
+                    }
+                }
+            } else {
+                char[] values = (char[]) chunks[i];
+                for (int j = 0; j < cardinalities[i]; j++) {
+                    consumer.accept(base | values[j]);
+                }
+            }
+        }
+    }
+
+    public RoaringBitmap copy() {
+        RoaringBitmap copy = new RoaringBitmap();
+        copy.keys = Arrays.copyOf(keys, chunkCount);
+        copy.cardinalities = Arrays.copyOf(cardinalities, chunkCount);
+        copy.chunks = new Object[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            copy.chunks[i] = chunks[i] instanceof long[] words ? words.clone()
+                    : Arrays.copyOf((char[]) chunks[i], cardinalities[i]);
+        }
+        copy.chunkCount = chunkCount;
+        return copy;
+    }
+
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Object chunk = andChunk(a.chunks[i], a.cardinalities[i], b.chunks[j], b.cardinalities[j]);
+                int cardinality = chunkCardinality(chunk);
+                if (cardinality > 0) {
+                    result.insertChunk(result.chunkCount, a.keys[i], chunk, cardinality);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /** Adds every member of other to this bitmap. */
+    public void or(RoaringBitmap other) {
+        int i = 0;
+        for (int j = 0; j < other.chunkCount; j++) {
+            while (i < chunkCount && keys[i] < other.keys[j]) {
+                i++;
+            }
+            Object theirs = other.chunks[j];
+            int theirCardinality = other.cardinalities[j];
+            if (i == chunkCount || keys[i] != other.keys[j]) {
+                insertChunk(i, other.keys[j], theirs instanceof long[] words ? words.clone()
+                        : Arrays.copyOf((char[]) theirs, theirCardinality), theirCardinality);
+            } else {
+                long[] words = chunks[i] instanceof long[] ours ? ours : toWords((char[]) chunks[i], cardinalities[i]);
+                if (theirs instanceof long[] theirWords) {
+                    for (int k = 0; k < BITMAP_WORDS; k++) {
+                        words[k] |= theirWords[k];
+                    }
+                } else {
+                    char[] values = (char[]) theirs;
+                    for (int k = 0; k < theirCardinality; k++) {
+                        words[values[k] >>> 6] |= 1L << values[k];
+                    }
+                }
+                int cardinality = chunkCardinality(words);
+                chunks[i] = cardinality > ARRAY_LIMIT ? words : toValues(words, cardinality);
+                cardinalities[i] = cardinality;
+            }
+            i++;
+        }
+    }
+
+    /** Size of the intersection, without building it. */
+    public static long andCardinality(RoaringBitmap a, RoaringBitmap b) {
+        long total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.chunkCount && j < b.chunkCount) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                total += andChunkCardinality(a.chunks[i], a.cardinalities[i], b.chunks[j], b.cardinalities[j]);
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    private static Object andChunk(Object a, int aCardinality, Object b, int bCardinality) {
+        if (a instanceof long[] aWords && b instanceof long[] bWords) {
+            long[] words = new long[BITMAP_WORDS];
+            int cardinality = 0;
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                words[k] = aWords[k] & bWords[k];
+                cardinality += Long.bitCount(words[k]);
+            }
+            return cardinality > ARRAY_LIMIT ? words : toValues(words, cardinality);
+        }
+        if (a instanceof long[]) {
+            return andChunk(b, bCardinality, a, aCardinality);
+        }
+        char[] aValues = (char[]) a;
+        char[] result = new char[aCardinality];
+        int size = 0;
+        if (b instanceof long[] bWords) {
+            for (int k = 0; k < aCardinality; k++) {
+                char value = aValues[k];
+                if ((bWords[value >>> 6] & (1L << value)) != 0) {
+                    result[size++] = value;
+                }
+            }
+        } else {
+            char[] bValues = (char[]) b;
+            int x = 0;
+            int y = 0;
+            while (x < aCardinality && y < bCardinality) {
+                if (aValues[x] < bValues[y]) {
+                    x++;
+                } else if (aValues[x] > bValues[y]) {
+                    y++;
+                } else {
+                    result[size++] = aValues[x];
+                    x++;
+                    y++;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int andChunkCardinality(Object a, int aCardinality, Object b, int bCardinality) {
+        if (a instanceof long[] aWords && b instanceof long[] bWords) {
+            int cardinality = 0;
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                cardinality += Long.bitCount(aWords[k] & bWords[k]);
+            }
+            return cardinality;
+        }
+        if (a instanceof long[]) {
+            return andChunkCardinality(b, bCardinality, a, aCardinality);
+        }
+        char[] aValues = (char[]) a;
+        int cardinality = 0;
+        if (b instanceof long[] bWords) {
+            for (int k = 0; k < aCardinality; k++) {
+                char value = aValues[k];
+                if ((bWords[value >>> 6] & (1L << value)) != 0) {
+                    cardinality++;
+                }
+            }
+            return cardinality;
+        }
+        char[] bValues = (char[]) b;
+        if (aCardinality + bCardinality > SCRATCH_THRESHOLD) {
+            // A merge is one long dependency chain; marking one side and probing with the other pipelines
+            long[] scratch = SCRATCH.get();
+            for (int k = 0; k < aCardinality; k++) {
+                scratch[aValues[k] >>> 6] |= 1L << aValues[k];
+            }
+            for (int k = 0; k < bCardinality; k++) {
+                cardinality += (int) (scratch[bValues[k] >>> 6] >>> bValues[k]) & 1;
+            }
+            for (int k = 0; k < aCardinality; k++) {
+                scratch[aValues[k] >>> 6] = 0;
+            }
+            return cardinality;
+        }
+        int x = 0;
+        int y = 0;
+        while (x < aCardinality && y < bCardinality) {
+            int aValue = aValues[x];
+            int bValue = bValues[y];
+            cardinality += aValue == bValue ? 1 : 0;
+            x += aValue <= bValue ? 1 : 0;
+            y += aValue >= bValue ? 1 : 0;
+        }
+        return cardinality;
+    }
+
+    private static int chunkCardinality(Object chunk) {
+        if (chunk instanceof long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            return cardinality;
+        }
+        return ((char[]) chunk).length;
+    }
+
+    private static long[] toWords(char[] values, int cardinality) {
+        long[] words = new long[BITMAP_WORDS];
+        for (int k = 0; k < cardinality; k++) {
+            words[values[k] >>> 6] |= 1L << values[k];
+        }
+        return words;
+    }
+
+    private static char[] toValues(long[] words, int cardinality) {
+        char[] values = new char[cardinality];
+        int size = 0;
+        for (int word = 0; word < BITMAP_WORDS; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                values[size++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        return values;
+    }
+
+    private static char high(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value " + value);
+        }
+        return (char) (value >>> 16);
+    }
+
+    private int find(char high) {
+        return Arrays.binarySearch(keys, 0, chunkCount, high);
+    }
+
+    private void insertChunk(int at, char high, Object chunk, int cardinality) {
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+            cardinalities = Arrays.copyOf(cardinalities, capacity);
+        }
+        System.arraycopy(keys, at, keys, at + 1, chunkCount - at);
+        System.arraycopy(chunks, at, chunks, at + 1, chunkCount - at);
+        System.arraycopy(cardinalities, at, cardinalities, at + 1, chunkCount - at);
+        keys[at] = high;
+        chunks[at] = chunk;
+        cardinalities[at] = cardinality;
+        chunkCount++;
+    }
+
+    private void removeChunk(int at) {
+        System.arraycopy(keys, at + 1, keys, at, chunkCount - at - 1);
+        System.arraycopy(chunks, at + 1, chunks, at, chunkCount - at - 1);
+        System.arraycopy(cardinalities, at + 1, cardinalities, at, chunkCount - at - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+}
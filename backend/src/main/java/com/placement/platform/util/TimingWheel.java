@@ -0,0 +1,192 @@
+package com.placement.platform.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel: four levels of 64 slots, each level's slot
+ * spanning a whole revolution of the level below. With a one-minute tick that
+ * covers about 31 years. Every slot is an intrusive doubly linked list, so
+ * scheduling and cancelling are O(1) whatever the number of entries; an entry
+ * is only touched again when its slot comes up, at most once per level on its
+ * way down. Entries further out than the top level are re-placed when their
+ * slot comes round.
+ * <p>
+ * Not thread-safe; the wheel only moves when {@link #advance} is called.
+ */
+public class TimingWheel<K, V> {
+
+    @FunctionalInterface
+    public interface Listener<K, V> {
+        void expired(K key, V value, long dueMillis);
+    }
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int OVERDUE = -1;
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private V value;
+        private long dueMillis;
+        private long tick;
+        private int level;
+        private int slot;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+    }
+
+    private final long tickMillis;
+    private final Entry<K, V>[][] slots;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private Entry<K, V> overdue;
+    private long currentTick;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public TimingWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new Entry[LEVELS][SLOTS];
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /** Schedules key, replacing any earlier schedule for it. Due times already passed fire on the next advance. */
+    public void schedule(K key, V value, long dueMillis) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry<>(key);
+            entries.put(key, entry);
+        } else {
+            unlink(entry);
+        }
+        entry.value = value;
+        entry.dueMillis = dueMillis;
+        entry.tick = Math.floorDiv(dueMillis + tickMillis - 1, tickMillis);
+        place(entry);
+    }
+
+    public boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    public V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        return entry == null ? null : entry.value;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Moves the wheel up to nowMillis, handing every entry that fell due to the
+     * listener and forgetting it. The listener must not call back into the wheel.
+     */
+    public void advance(long nowMillis, Listener<K, V> listener) {
+        long target = nowMillis / tickMillis;
+        drainOverdue(listener);
+        if (entries.isEmpty()) {
+            currentTick = Math.max(currentTick, target);
+            return;
+        }
+        while (currentTick < target) {
+            currentTick++;
+            int cascades = 1;
+            while (cascades < LEVELS && (currentTick & ((1L << (SLOT_BITS * cascades)) - 1)) == 0) {
+                cascades++;
+            }
+            // Higher levels first: their entries may land in a lower slot that is cascaded in this same tick
+            for (int level = cascades - 1; level > 0; level--) {
+                Entry<K, V> entry = detach(level, (int) (currentTick >>> (SLOT_BITS * level)) & MASK);
+                while (entry != null) {
+                    Entry<K, V> next = entry.next;
+                    place(entry);
+                    entry = next;
+                }
+            }
+            Entry<K, V> entry = detach(0, (int) currentTick & MASK);
+            while (entry != null) {
+                Entry<K, V> next = entry.next;
+                fire(entry, listener);
+                entry = next;
+            }
+            drainOverdue(listener);
+        }
+    }
+
+    private void drainOverdue(Listener<K, V> listener) {
+        while (overdue != null) {
+            Entry<K, V> entry = overdue;
+            overdue = entry.next;
+            if (overdue != null) {
+                overdue.prev = null;
+            }
+            fire(entry, listener);
+        }
+    }
+
+    private void fire(Entry<K, V> entry, Listener<K, V> listener) {
+        entries.remove(entry.key);
+        entry.prev = null;
+        entry.next = null;
+        listener.expired(entry.key, entry.value, entry.dueMillis);
+    }
+
+    private void place(Entry<K, V> entry) {
+        entry.prev = null;
+        if (entry.tick <= currentTick) {
+            entry.level = OVERDUE;
+            entry.next = overdue;
+            if (overdue != null) {
+                overdue.prev = entry;
+            }
+            overdue = entry;
+            return;
+        }
+        // The lowest level whose revolution still contains the due tick
+        long differing = entry.tick ^ currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && (differing >>> (SLOT_BITS * (level + 1))) != 0) {
+            level++;
+        }
+        int slot = (int) (entry.tick >>> (SLOT_BITS * level)) & MASK;
+        entry.level = level;
+        entry.slot = slot;
+        entry.next = slots[level][slot];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        slots[level][slot] = entry;
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else if (entry.level == OVERDUE) {
+            overdue = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private Entry<K, V> detach(int level, int slot) {
+        Entry<K, V> head = slots[level][slot];
+        slots[level][slot] = null;
+        return head;
+    }
+}
@@ -0,0 +1,200 @@
+package com.placement.platform.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log split into numbered segment files. Appends only reach the
+ * page cache; callers that need durability wait on {@link #awaitDurable(long)},
+ * where one fsync covers every append made before it (group commit). Each record
+ * is framed as length, CRC32 and payload, so a torn tail is detected and ignored
+ * on replay.
+ */
+public class WriteAheadLog implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+
+    private FileChannel active;
+    private long activeSegment;
+    private long appendedSeq;
+    private volatile long durableSeq;
+
+    public WriteAheadLog(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            List<Long> existing = segments();
+            activeSegment = existing.isEmpty() ? 1 : existing.get(existing.size() - 1) + 1;
+            active = open(activeSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open write-ahead log in " + directory, e);
+        }
+    }
+
+    /** Appends a record and returns its sequence number for {@link #awaitDurable(long)}. */
+    public long append(byte[] payload) {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        synchronized (appendLock) {
+            try {
+                while (frame.hasRemaining()) {
+                    active.write(frame);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot append to write-ahead log", e);
+            }
+            return ++appendedSeq;
+        }
+    }
+
+    /** Blocks until the record with the given sequence number is on disk. */
+    public void awaitDurable(long seq) {
+        if (durableSeq >= seq) {
+            return;
+        }
+        synchronized (syncLock) {
+            // Whoever held the lock before us may already have synced our record
+            if (durableSeq >= seq) {
+                return;
+            }
+            long target;
+            FileChannel channel;
+            synchronized (appendLock) {
+                target = appendedSeq;
+                channel = active;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot sync write-ahead log", e);
+            }
+            durableSeq = target;
+        }
+    }
+
+    /**
+     * Seals the active segment and starts a new one. Returns the id of the new
+     * segment; every record appended before this call lives in a lower segment.
+     */
+    public long rotate() {
+        synchronized (syncLock) {
+            synchronized (appendLock) {
+                try {
+                    active.force(false);
+                    active.close();
+                    durableSeq = appendedSeq;
+                    activeSegment++;
+                    active = open(activeSegment);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot rotate write-ahead log", e);
+                }
+                return activeSegment;
+            }
+        }
+    }
+
+    public long activeSegment() {
+        synchronized (appendLock) {
+            return activeSegment;
+        }
+    }
+
+    /** Deletes sealed segments whose id is lower than the given one. */
+    public void deleteSegmentsBefore(long segment) {
+        try {
+            for (long id : segments()) {
+                if (id < segment) {
+                    Files.deleteIfExists(segmentPath(id));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete write-ahead log segments", e);
+        }
+    }
+
+    /** Feeds every intact record of the sealed segments to the consumer, oldest first. */
+    public void replay(Consumer<byte[]> consumer) {
+        try {
+            for (long id : segments()) {
+                if (id < activeSegment) {
+                    replaySegment(segmentPath(id), consumer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay write-ahead log", e);
+        }
+    }
+
+    private void replaySegment(Path path, Consumer<byte[]> consumer) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path));
+        while (data.remaining() >= HEADER_BYTES) {
+            int length = data.getInt();
+            int checksum = data.getInt();
+            if (length < 0 || length > data.remaining()) {
+                return;
+            }
+            byte[] payload = new byte[length];
+            data.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                return;
+            }
+            consumer.accept(payload);
+        }
+    }
+
+    private List<Long> segments() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> {
+                        String id = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                        try {
+                            ids.add(Long.parseLong(id));
+                        } catch (NumberFormatException ignored) {
+                            // not one of ours
+                        }
+                    });
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private FileChannel open(long segment) throws IOException {
+        return FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%019d", segment) + SEGMENT_SUFFIX);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            active.force(false);
+            active.close();
+        }
+    }
+}
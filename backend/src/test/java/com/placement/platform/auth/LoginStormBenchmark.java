@@ -0,0 +1,112 @@
+package com.placement.platform.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Login storm against the running app: many clients log in at once while a
+ * separate client keeps reading the DSA catalog. BCrypt work runs on the
+ * bounded hashing pool, so the catalog reads should stay fast and the
+ * overflow should get quick 503s rather than time out.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoginStormBenchmark {
+
+    private static final int LOGINS = 400;
+    private static final int CLIENTS = 250;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+    @Test
+    void loginStorm() throws Exception {
+        String credentials = objectMapper.writeValueAsString(Map.of(
+                "fullName", "Storm", "email", "storm@example.com", "password", "storm-password"));
+        String token = objectMapper.readTree(post("/api/v1/auth/register", credentials).body()).path("token").asText();
+
+        Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        List<Long> readLatencies = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(LOGINS);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        Thread reader = new Thread(() -> {
+            while (done.getCount() > 0) {
+                long start = System.nanoTime();
+                try {
+                    http.send(HttpRequest.newBuilder(uri("/api/v1/dsa/questions"))
+                            .header("Authorization", "Bearer " + token).build(), HttpResponse.BodyHandlers.discarding());
+                } catch (Exception e) {
+                    return;
+                }
+                readLatencies.add(System.nanoTime() - start);
+            }
+        });
+
+        long start = System.nanoTime();
+        reader.start();
+        for (int i = 0; i < LOGINS; i++) {
+            clients.execute(() -> {
+                int status;
+                try {
+                    status = post("/api/v1/auth/login", credentials).statusCode();
+                } catch (Exception e) {
+                    status = -1;
+                }
+                statuses.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+                done.countDown();
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        reader.join();
+        clients.shutdown();
+
+        List<Long> sorted = new ArrayList<>(readLatencies);
+        Collections.sort(sorted);
+        System.out.printf("%d logins from %d clients in %d ms, statuses %s%n", LOGINS, CLIENTS, elapsedMillis, statuses);
+        System.out.printf("catalog reads during the storm: %d, p50 %d ms, p99 %d ms, max %d ms%n", sorted.size(),
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), percentileMillis(sorted, 1.0));
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return http.send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentileMillis(List<Long> sorted, double fraction) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get(Math.min(sorted.size() - 1, (int) (sorted.size() * fraction))) / 1_000_000;
+    }
+}
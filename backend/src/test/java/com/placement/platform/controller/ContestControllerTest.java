@@ -0,0 +1,62 @@
+package com.placement.platform.controller;
+
+import com.placement.platform.domain.Role;
+import com.placement.platform.domain.User;
+import com.placement.platform.repository.UserRepository;
+import com.placement.platform.security.JwtService;
+import com.placement.platform.service.ContestNotificationHub;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockBean
+    private ContestNotificationHub contestNotificationHub;
+
+    @Test
+    void streamCompletesThroughTheAsyncDispatch() throws Exception {
+        User user = userRepository.save(User.builder().email(UUID.randomUUID() + "@example.com").password("x")
+                .fullName("Streamer").role(Role.STUDENT).build());
+        SseEmitter emitter = new SseEmitter();
+        when(contestNotificationHub.subscribe(any())).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/contests/stream")
+                        .header("Authorization", "Bearer " + jwtService.generateToken(user)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(SseEmitter.event().comment("connected"));
+        emitter.complete();
+
+        // The completion comes back as an ASYNC dispatch, which the JWT filter does not run for
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(":connected\n\n"));
+    }
+}
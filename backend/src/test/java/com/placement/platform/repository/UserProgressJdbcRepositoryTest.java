@@ -0,0 +1,89 @@
+package com.placement.platform.repository;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Role;
+import com.placement.platform.domain.Status;
+import com.placement.platform.domain.User;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserProgressJdbcRepositoryTest {
+
+    @Autowired
+    private UserProgressJdbcRepository userProgressJdbcRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID questionId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder().email(UUID.randomUUID() + "@example.com").password("x")
+                .fullName("Upsert").role(Role.STUDENT).build()).getId();
+        questionId = questionRepository.save(Question.builder().title("Upsert " + UUID.randomUUID()).topic("Arrays")
+                .difficulty(Difficulty.EASY).build()).getId();
+    }
+
+    @Test
+    void solvingStampsSolvedAtAndKeepsTheScheduleWhileStillSolved() {
+        write(Status.ATTEMPTED);
+        assertThat(row().get("solved_at")).isNull();
+
+        write(Status.SOLVED);
+        Object solvedAt = row().get("solved_at");
+        assertThat(solvedAt).isNotNull();
+        assertThat(userProgressJdbcRepository.updateReview(userId, questionId, 2, LocalDateTime.now().plusDays(7)))
+                .isTrue();
+
+        write(Status.SOLVED);
+        assertThat(row()).containsEntry("solved_at", solvedAt).containsEntry("review_step", 2);
+    }
+
+    @Test
+    void leavingSolvedClearsTheSchedule() {
+        write(Status.SOLVED);
+        userProgressJdbcRepository.updateReview(userId, questionId, 3, LocalDateTime.now().plusDays(14));
+
+        write(Status.ATTEMPTED);
+        assertThat(row()).containsEntry("solved_at", null).containsEntry("review_step", null)
+                .containsEntry("next_review_at", null);
+
+        write(Status.SOLVED);
+        assertThat(row().get("solved_at")).isNotNull();
+        assertThat(row()).containsEntry("review_step", null);
+    }
+
+    @Test
+    void reviewOfAMissingRowReportsIt() {
+        assertThat(userProgressJdbcRepository.updateReview(userId, questionId, 1, LocalDateTime.now())).isFalse();
+    }
+
+    private void write(Status status) {
+        userProgressJdbcRepository.upsert(new ProgressWrite(userId, questionId, status));
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap("SELECT solved_at, review_step, next_review_at FROM user_progress "
+                + "WHERE user_id = ? AND question_id = ?", userId, questionId);
+    }
+}
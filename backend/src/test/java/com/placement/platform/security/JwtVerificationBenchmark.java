@@ -0,0 +1,166 @@
+package com.placement.platform.security;
+
+import com.placement.platform.config.JwtAuthenticationFilter;
+import com.placement.platform.domain.Role;
+import com.placement.platform.domain.User;
+import com.placement.platform.repository.UserRepository;
+import com.placement.platform.support.Benchmark;
+import com.placement.platform.util.BoundedCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Cost of authenticating one request, single thread, against the app's own
+ * beans and H2. Each operation is a fresh request with a bearer token run
+ * through a filter until it reaches the end of the chain: token
+ * verification, principal construction and the token version check.
+ * "baseline" replays the filter from before tokens were verified once:
+ * three full parses, each rebuilding the HMAC key and parser, and a user row
+ * loaded per request. The last run goes through the whole security chain to
+ * a protected endpoint.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class JwtVerificationBenchmark {
+
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASURE = Duration.ofSeconds(5);
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private Filter securityChain;
+
+    @Value("${application.security.jwt.secret-key}")
+    private String secretKey;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email(UUID.randomUUID() + "@example.com").password("x")
+                .fullName("Benchmark").role(Role.STUDENT).build());
+        token = jwtService.generateToken(user);
+    }
+
+    @Test
+    void requestAuthentication() {
+        Filter baseline = new BaselineFilter();
+        check(baseline, token);
+        Benchmark.run("baseline: 3 parses, user row per request", WARMUP, MEASURE,
+                () -> authenticate(baseline, token));
+
+        @SuppressWarnings("unchecked")
+        BoundedCache<UUID, Integer> versions = (BoundedCache<UUID, Integer>) ReflectionTestUtils
+                .getField(tokenVersionRegistry, "versions");
+        check(jwtAuthenticationFilter, token);
+        Benchmark.run("filter, token version loaded", WARMUP, MEASURE, () -> {
+            versions.invalidate(user.getId());
+            return authenticate(jwtAuthenticationFilter, token);
+        });
+
+        Benchmark.run("filter, claims principal, all cached", WARMUP, MEASURE,
+                () -> authenticate(jwtAuthenticationFilter, token));
+
+        // Minted before identity claims existed, so the principal comes from the email cache
+        String legacyToken = jwtService.generateToken((UserDetails) user);
+        check(jwtAuthenticationFilter, legacyToken);
+        Benchmark.run("filter, legacy token principal, all cached", WARMUP, MEASURE,
+                () -> authenticate(jwtAuthenticationFilter, legacyToken));
+
+        check(securityChain, token);
+        Benchmark.run("security chain to a protected endpoint", WARMUP, MEASURE,
+                () -> authenticate(securityChain, token));
+    }
+
+    private static void check(Filter filter, String token) {
+        if (authenticate(filter, token) == null) {
+            throw new IllegalStateException("Request was not authenticated");
+        }
+    }
+
+    // The authentication the end of the chain saw, or null if the request never got there authenticated
+    private static Authentication authenticate(Filter filter, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/dsa/stats");
+        request.addHeader("Authorization", "Bearer " + token);
+        Authentication[] seen = new Authentication[1];
+        FilterChain end = (req, res) -> seen[0] = SecurityContextHolder.getContext().getAuthentication();
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), end);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return seen[0];
+    }
+
+    private class BaselineFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                FilterChain filterChain) throws IOException, ServletException {
+            String jwt = request.getHeader("Authorization").substring(7);
+            String userEmail = baselineClaims(jwt).getSubject();
+            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            if (userEmail.equals(baselineClaims(jwt).getSubject())
+                    && !baselineClaims(jwt).getExpiration().before(new Date())
+                    && userEmail.equals(userDetails.getUsername())) {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+            }
+            filterChain.doFilter(request, response);
+        }
+
+        private Claims baselineClaims(String jwt) {
+            return Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                    .build()
+                    .parseClaimsJws(jwt)
+                    .getBody();
+        }
+    }
+}
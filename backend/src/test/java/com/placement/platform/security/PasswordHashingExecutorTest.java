@@ -0,0 +1,46 @@
+package com.placement.platform.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingExecutorTest {
+
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void bulkBacklogDoesNotDelayOrRejectSignIns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> bulk = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            bulk.add(executor.submitBulk(() -> await(release)));
+        }
+
+        assertThat(executor.submit(() -> "hash").get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(bulk).noneMatch(CompletableFuture::isDone);
+
+        release.countDown();
+        CompletableFuture.allOf(bulk.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.placement.platform.security;
+
+import com.placement.platform.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenVersionRegistryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, 100, 60);
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void startTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void endTransaction() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void revocationTakesEffectOnlyAfterCommit() {
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.of(0));
+        assertThat(registry.isCurrent(userId, 0)).isTrue();
+
+        registry.revoke(userId);
+        verify(userRepository).incrementTokenVersion(userId);
+
+        // A lookup before commit still sees, and caches, the committed version
+        assertThat(registry.isCurrent(userId, 0)).isTrue();
+
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.of(1));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(registry.isCurrent(userId, 0)).isFalse();
+        assertThat(registry.isCurrent(userId, 1)).isTrue();
+    }
+
+    @Test
+    void unknownUsersAreNeverCurrent() {
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.empty());
+        assertThat(registry.isCurrent(userId, 0)).isFalse();
+    }
+}
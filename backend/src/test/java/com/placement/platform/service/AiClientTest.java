@@ -0,0 +1,151 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the client against a local stand-in for an OpenAI-compatible
+ * /v1/chat/completions endpoint that can answer, fail or hang on demand.
+ */
+class AiClientTest {
+
+    private static final String REPLY = """
+            {"id":"chatcmpl-1","object":"chat.completion","choices":[
+              {"index":0,"message":{"role":"assistant","content":"Practice graphs daily."},"finish_reason":"stop"}]}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+    private final AtomicReference<JsonNode> lastRequest = new AtomicReference<>();
+    private final CountDownLatch hang = new CountDownLatch(1);
+    private volatile int status = 200;
+    private volatile CountDownLatch received = new CountDownLatch(1);
+    private volatile boolean hanging;
+    private HttpServer completions;
+
+    @BeforeEach
+    void startCompletions() throws IOException {
+        completions = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        completions.setExecutor(handlers);
+        completions.createContext("/v1/chat/completions", exchange -> {
+            calls.incrementAndGet();
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            try (InputStream in = exchange.getRequestBody()) {
+                lastRequest.set(objectMapper.readTree(in));
+            }
+            received.countDown();
+            if (hanging) {
+                await(hang);
+            }
+            byte[] body = status == 200 ? REPLY.getBytes(StandardCharsets.UTF_8)
+                    : "{\"error\":{\"message\":\"overloaded\"}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        completions.start();
+    }
+
+    @AfterEach
+    void stopCompletions() {
+        hang.countDown();
+        completions.stop(0);
+        handlers.shutdownNow();
+    }
+
+    @Test
+    void returnsTheAssistantReply() throws IOException {
+        AiClient client = client(30, 16);
+
+        assertThat(client.complete("How do I get better at graphs?")).isEqualTo("Practice graphs daily.");
+        assertThat(authorization.get()).isEqualTo("Bearer test-key");
+        assertThat(lastRequest.get().path("model").asText()).isEqualTo("gpt-test");
+        assertThat(lastRequest.get().path("messages").path(0).path("content").asText())
+                .isEqualTo("How do I get better at graphs?");
+    }
+
+    @Test
+    void slowUpstreamFailsAfterTheReadTimeout() {
+        hanging = true;
+        AiClient client = client(1, 16);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.complete("hello")).isInstanceOf(IOException.class)
+                .hasMessageStartingWith("AI call failed");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isBetween(900L, 5_000L);
+    }
+
+    @Test
+    void callsBeyondTheLimitFailAtOnce() throws Exception {
+        hanging = true;
+        AiClient client = client(30, 1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return client.complete("first");
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.complete("second")).isInstanceOf(IOException.class)
+                .hasMessage("Too many AI calls in flight");
+        assertThat(calls).hasValue(1);
+
+        hang.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("Practice graphs daily.");
+        hanging = false;
+        assertThat(client.complete("third")).isEqualTo("Practice graphs daily.");
+    }
+
+    @Test
+    void serviceUnavailableFallsBackToTheMock() {
+        status = 503;
+        AiService aiService = new AiService(client(30, 16), objectMapper);
+
+        Map<String, Object> reply = aiService.chat("hello");
+
+        assertThat(reply).containsEntry("isMock", true);
+        assertThat((String) reply.get("message")).contains("hello");
+        assertThat(calls).hasValue(1);
+    }
+
+    private AiClient client(long readTimeoutSeconds, int maxConcurrentCalls) {
+        String url = "http://127.0.0.1:" + completions.getAddress().getPort() + "/v1/chat/completions";
+        return new AiClient(new RestTemplateBuilder(), objectMapper, "test-key", url, "gpt-test", 5,
+                readTimeoutSeconds, maxConcurrentCalls);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Role;
+import com.placement.platform.domain.Status;
+import com.placement.platform.repository.ProfileRepository;
+import com.placement.platform.repository.ProfileRepository.CohortMembership;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.UserQuestionStatus;
+import com.placement.platform.support.Benchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cohort queries over 100k synthetic students in 5 graduation years and 50
+ * universities, with 2,000 questions in 20 topics and up to 120 solves per
+ * student, against the same topic completion done with hash sets of ids.
+ */
+@Tag("benchmark")
+class CohortAnalyticsBenchmark {
+
+    private static final int STUDENTS = 100_000;
+    private static final int QUESTIONS = 2_000;
+    private static final int TOPICS = 20;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(3);
+
+    private record Member(UUID getUserId, Integer getGraduationYear, String getUniversity) implements CohortMembership {
+    }
+
+    private record Row(UUID getUserId, UUID getQuestionId, Status getStatus) implements UserQuestionStatus {
+    }
+
+    @Test
+    void cohortQueries() {
+        Random random = new Random(1);
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            questions.add(Question.builder().id(UUID.randomUUID()).title("Question " + i).topic("Topic " + (i % TOPICS))
+                    .difficulty(Difficulty.values()[random.nextInt(Difficulty.values().length)]).build());
+        }
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            members.add(new Member(UUID.randomUUID(), 2024 + random.nextInt(5), "University " + random.nextInt(50)));
+        }
+        // Regenerated from the same seed on every call instead of holding millions of rows
+        UserProgressRepository progressRepository = mock(UserProgressRepository.class);
+        when(progressRepository.streamStartedProgress()).thenAnswer(invocation -> {
+            Random rows = new Random(2);
+            return members.stream().flatMap(member -> IntStream.range(0, rows.nextInt(121))
+                    .mapToObj(i -> new Row(member.getUserId(), questions.get(rows.nextInt(QUESTIONS)).getId(),
+                            Status.SOLVED)));
+        });
+        ProfileRepository profileRepository = mock(ProfileRepository.class);
+        when(profileRepository.streamCohortMemberships(Role.STUDENT)).thenAnswer(invocation -> members.stream()
+                .map(CohortMembership.class::cast));
+        DsaService dsaService = mock(DsaService.class);
+        when(dsaService.catalog()).thenReturn(QuestionCatalog.of(1, questions));
+        CohortAnalyticsService analytics = new CohortAnalyticsService(dsaService, profileRepository,
+                progressRepository, new ProgressStatistics(progressRepository, Optional.empty(), event -> { }, 100));
+        ReflectionTestUtils.setField(analytics, "maxResults", 200);
+
+        long start = System.nanoTime();
+        analytics.rebuild();
+        System.out.printf("rebuild: %d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        Benchmark.run("topic completion, all students", WARMUP, MEASURE,
+                () -> analytics.topicCompletion("Topic 3", null, null));
+        Benchmark.run("topic completion, year + university", WARMUP, MEASURE,
+                () -> analytics.topicCompletion("Topic 3", 2026, "University 7"));
+        Benchmark.run("solve rates, one topic, one year", WARMUP, MEASURE,
+                () -> analytics.solveRates(2026, null, "Topic 3", null, 50));
+
+        Set<UUID> cohort = new HashSet<>();
+        members.forEach(member -> cohort.add(member.getUserId()));
+        Map<UUID, Set<UUID>> solvers = new HashMap<>();
+        try (Stream<UserQuestionStatus> rows = progressRepository.streamStartedProgress()) {
+            rows.forEach(row -> solvers.computeIfAbsent(row.getQuestionId(), id -> new HashSet<>()).add(row.getUserId()));
+        }
+        List<Question> topic = dsaService.catalog().select("Topic 3", null);
+        Benchmark.run("baseline: hash sets, all students", Duration.ofSeconds(1), MEASURE, () -> {
+            Set<UUID> solvedAll = new HashSet<>(cohort);
+            Set<UUID> solvedAny = new HashSet<>();
+            for (Question question : topic) {
+                Set<UUID> questionSolvers = solvers.getOrDefault(question.getId(), Set.of());
+                solvedAll.retainAll(questionSolvers);
+                solvedAny.addAll(questionSolvers);
+            }
+            return solvedAll.size() + solvedAny.size();
+        });
+    }
+}
@@ -0,0 +1,152 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Role;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.TopicCompletion;
+import com.placement.platform.event.ProfileUpdatedEvent;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.event.StudentRegisteredEvent;
+import com.placement.platform.repository.ProfileRepository;
+import com.placement.platform.repository.ProfileRepository.CohortMembership;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.UserQuestionStatus;
+import com.placement.platform.support.WriteBehindProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CohortAnalyticsServiceTest {
+
+    @TempDir
+    Path logDir;
+
+    private final DsaService dsaService = mock(DsaService.class);
+    private final ProfileRepository profileRepository = mock(ProfileRepository.class);
+    private final UserProgressRepository userProgressRepository = mock(UserProgressRepository.class);
+    private final Question question = Question.builder().id(UUID.randomUUID()).title("Two Sum").topic("Arrays")
+            .difficulty(Difficulty.EASY).build();
+    private final UUID withProfile = UUID.randomUUID();
+    private final UUID withoutProfile = UUID.randomUUID();
+    private CohortAnalyticsService analytics;
+
+    @BeforeEach
+    void setUp() {
+        when(dsaService.catalog()).thenReturn(QuestionCatalog.of(1, List.of(question)));
+        when(profileRepository.streamCohortMemberships(Role.STUDENT))
+                .thenReturn(Stream.of(member(withProfile, 2026), member(withoutProfile, null)));
+        when(userProgressRepository.streamStartedProgress()).thenReturn(Stream.empty());
+        analytics = new CohortAnalyticsService(dsaService, profileRepository, userProgressRepository,
+                new ProgressStatistics(userProgressRepository, Optional.empty(), event -> { }, 100));
+        analytics.rebuild();
+    }
+
+    @Test
+    void studentsWithoutAProfileCountTowardsTheCohort() {
+        analytics.onProgressChanged(new ProgressChangedEvent(withoutProfile, question.getId(), null, Status.SOLVED));
+
+        assertThat(analytics.cohort(null, null).students()).isEqualTo(2);
+        assertThat(analytics.topicCompletion("Arrays", null, null))
+                .extracting(TopicCompletion::students, TopicCompletion::solvedAll)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void profilesOfNonStudentsAreIgnored() {
+        UUID admin = UUID.randomUUID();
+        analytics.onProfileUpdated(new ProfileUpdatedEvent(admin, 2026, "MIT"));
+        analytics.onProgressChanged(new ProgressChangedEvent(admin, question.getId(), null, Status.SOLVED));
+
+        assertThat(analytics.cohort(2026, null).students()).isEqualTo(1);
+        assertThat(analytics.topicCompletion("Arrays", 2026, null).solvedAny()).isZero();
+    }
+
+    @Test
+    void newStudentsJoinBeforeTheirProfile() {
+        UUID student = UUID.randomUUID();
+        analytics.onStudentRegistered(new StudentRegisteredEvent(student));
+        assertThat(analytics.cohort(null, null).students()).isEqualTo(3);
+
+        analytics.onProfileUpdated(new ProfileUpdatedEvent(student, 2026, "MIT"));
+        analytics.onStudentRegistered(new StudentRegisteredEvent(student));
+        assertThat(analytics.cohort(2026, "mit").students()).isEqualTo(1);
+    }
+
+    @Test
+    void unsolveByAnUnknownUserAllocatesNoOrdinal() {
+        analytics.onProgressChanged(new ProgressChangedEvent(UUID.randomUUID(), question.getId(), Status.SOLVED,
+                Status.ATTEMPTED));
+
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(analytics, "ordinals"))
+                .hasSize(2);
+    }
+
+    @Test
+    void rebuildKeepsSolvesStillInTheWriteBehindBuffer() {
+        WriteBehindProgress progress = new WriteBehindProgress(logDir);
+        ProgressWriteBuffer buffer = progress.open();
+        when(profileRepository.streamCohortMemberships(Role.STUDENT))
+                .thenAnswer(invocation -> Stream.of(member(withProfile, 2026), member(withoutProfile, null)));
+        when(userProgressRepository.streamStartedProgress()).thenAnswer(invocation -> startedIn(progress.table()));
+        ProgressStatistics statistics = new ProgressStatistics(userProgressRepository, Optional.of(buffer),
+                event -> { }, 100);
+        analytics = new CohortAnalyticsService(dsaService, profileRepository, userProgressRepository, statistics);
+        analytics.rebuild();
+
+        List<ProgressWrite> writes = List.of(new ProgressWrite(withProfile, question.getId(), Status.SOLVED));
+        statistics.record(withProfile, writes, dsaService.catalog(), () -> buffer.submit(writes));
+        assertThat(progress.table()).isEmpty();
+        analytics.rebuild();
+
+        assertThat(analytics.topicCompletion("Arrays", 2026, null))
+                .extracting(TopicCompletion::students, TopicCompletion::solvedAll)
+                .containsExactly(1L, 1L);
+    }
+
+    private static Stream<UserQuestionStatus> startedIn(Map<UUID, Map<UUID, Status>> table) {
+        return table.entrySet().stream().flatMap(user -> user.getValue().entrySet().stream()
+                .map(row -> new UserQuestionStatus() {
+                    public UUID getUserId() {
+                        return user.getKey();
+                    }
+
+                    public UUID getQuestionId() {
+                        return row.getKey();
+                    }
+
+                    public Status getStatus() {
+                        return row.getValue();
+                    }
+                }));
+    }
+
+    private static CohortMembership member(UUID userId, Integer graduationYear) {
+        return new CohortMembership() {
+            public UUID getUserId() {
+                return userId;
+            }
+
+            public Integer getGraduationYear() {
+                return graduationYear;
+            }
+
+            public String getUniversity() {
+                return null;
+            }
+        };
+    }
+}
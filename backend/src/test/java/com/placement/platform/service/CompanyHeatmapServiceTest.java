@@ -0,0 +1,92 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Company;
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.event.InterviewQuestionAddedEvent;
+import com.placement.platform.repository.CompanyRepository;
+import com.placement.platform.repository.InterviewQuestionRepository;
+import com.placement.platform.repository.InterviewQuestionRepository.HeatmapCell;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompanyHeatmapServiceTest {
+
+    private final InterviewQuestionRepository interviewQuestionRepository = mock(InterviewQuestionRepository.class);
+    private final CompanyRepository companyRepository = mock(CompanyRepository.class);
+    private final Company company = Company.builder().id(UUID.randomUUID()).name("Acme").build();
+    private CompanyHeatmapService heatmaps;
+
+    @Test
+    void rebuildWaitsForAnInFlightQuestionSoItIsCountedOnce() throws Exception {
+        CompanyService companyService = new CompanyService(companyRepository, interviewQuestionRepository,
+                event -> heatmaps.onInterviewQuestionAdded((InterviewQuestionAddedEvent) event), 10);
+        heatmaps = new CompanyHeatmapService(interviewQuestionRepository, companyRepository, companyService);
+        InterviewQuestion question = InterviewQuestion.builder().id(UUID.randomUUID()).company(company)
+                .title("LRU cache").topic("Design").difficulty(Difficulty.MEDIUM).frequency("High").build();
+        CountDownLatch saved = new CountDownLatch(1);
+        CountDownLatch publish = new CountDownLatch(1);
+        when(interviewQuestionRepository.save(any())).thenAnswer(invocation -> {
+            saved.countDown();
+            await(publish);
+            return question;
+        });
+        // By the time the rebuild reads, the question is committed
+        when(interviewQuestionRepository.countByCompanyTopicDifficultyAndFrequency())
+                .thenReturn(List.of(cell(question)));
+
+        CompletableFuture<InterviewQuestion> writer = CompletableFuture.supplyAsync(
+                () -> companyService.addQuestion(question));
+        assertThat(saved.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(heatmaps::rebuild);
+        Thread.sleep(100);
+        assertThat(rebuild).isNotDone();
+
+        publish.countDown();
+        writer.get(5, TimeUnit.SECONDS);
+        rebuild.get(5, TimeUnit.SECONDS);
+        assertThat(heatmaps.heatmap(company.getId()).questions()).isEqualTo(1);
+    }
+
+    private static HeatmapCell cell(InterviewQuestion question) {
+        return new HeatmapCell() {
+            public UUID getCompanyId() {
+                return question.getCompany().getId();
+            }
+
+            public String getTopic() {
+                return question.getTopic();
+            }
+
+            public Difficulty getDifficulty() {
+                return question.getDifficulty();
+            }
+
+            public String getFrequency() {
+                return question.getFrequency();
+            }
+
+            public long getQuestions() {
+                return 1;
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.platform.domain.Contest;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Runs each feed against a mocked platform endpoint: conditional requests,
+ * the 304 and same-body short-circuits, and each platform's listing format.
+ */
+class ContestFeedTest {
+
+    private static final String LEETCODE_URL = "http://feeds.test/graphql";
+    private static final String CODEFORCES_URL = "http://feeds.test/api/contest.list";
+    private static final String CODECHEF_URL = "http://feeds.test/api/list/contests/all";
+
+    private static final String LEETCODE_BODY = """
+            {"data":{"upcomingContests":[
+              {"title":"Weekly Contest 400","titleSlug":"weekly-contest-400","startTime":1717295400,"duration":5400},
+              {"title":"Biweekly Contest 132","titleSlug":"biweekly-contest-132","startTime":1717252200,"duration":7200}
+            ]}}""";
+    private static final String CODEFORCES_BODY = """
+            {"status":"OK","result":[
+              {"id":1980,"name":"Codeforces Round 950 (Div. 3)","phase":"BEFORE","durationSeconds":8100,"startTimeSeconds":1717425300},
+              {"id":1979,"name":"Codeforces Round 949 (Div. 2)","phase":"FINISHED","durationSeconds":7200,"startTimeSeconds":1717173300},
+              {"id":1978,"name":"Unscheduled Round","phase":"BEFORE","durationSeconds":7200}
+            ]}""";
+    private static final String CODECHEF_BODY = """
+            {"status":"success",
+             "present_contests":[{"contest_code":"START137","contest_name":"Starters 137",
+               "contest_start_date_iso":"2024-06-05T20:00:00+05:30","contest_duration":"120"}],
+             "future_contests":[{"contest_code":"START138","contest_name":"Starters 138",
+               "contest_start_date_iso":"2024-06-12T20:00:00+05:30","contest_duration":"135"}],
+             "past_contests":[{"contest_code":"START136","contest_name":"Starters 136",
+               "contest_start_date_iso":"2024-05-29T20:00:00+05:30","contest_duration":"120"}]}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockServerRestTemplateCustomizer platform = new MockServerRestTemplateCustomizer();
+    private final RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder(platform);
+
+    @Test
+    void parsesLeetCodeUpcomingContests() throws IOException {
+        LeetCodeContestFeed feed = new LeetCodeContestFeed(restTemplateBuilder, objectMapper, LEETCODE_URL);
+        server().expect(requestTo(LEETCODE_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().json("{\"query\":\"{ upcomingContests { title titleSlug startTime duration } }\"}"))
+                .andRespond(withSuccess(LEETCODE_BODY, MediaType.APPLICATION_JSON));
+
+        List<Contest> contests = feed.fetch(null).contests();
+
+        assertThat(contests).extracting(Contest::getExternalId, Contest::getName, Contest::getPlatform,
+                Contest::getLink, Contest::getStartTime, Contest::getDuration)
+                .containsExactly(
+                        tuple("leetcode:weekly-contest-400", "Weekly Contest 400",
+                                "LeetCode", "https://leetcode.com/contest/weekly-contest-400/",
+                                local(1717295400), "1h 30m"),
+                        tuple("leetcode:biweekly-contest-132", "Biweekly Contest 132",
+                                "LeetCode", "https://leetcode.com/contest/biweekly-contest-132/",
+                                local(1717252200), "2 Hours"));
+        server().verify();
+    }
+
+    @Test
+    void leetCodeErrorsFailTheFetch() {
+        LeetCodeContestFeed feed = new LeetCodeContestFeed(restTemplateBuilder, objectMapper, LEETCODE_URL);
+        server().expect(requestTo(LEETCODE_URL)).andRespond(withSuccess(
+                "{\"errors\":[{\"message\":\"rate limited\"}]}", MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> feed.fetch(null)).isInstanceOf(IOException.class).hasMessageContaining("rate limited");
+    }
+
+    @Test
+    void parsesCodeforcesRoundsThatHaveNotFinished() throws IOException {
+        CodeforcesContestFeed feed = new CodeforcesContestFeed(restTemplateBuilder, objectMapper, CODEFORCES_URL);
+        server().expect(requestTo(CODEFORCES_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(CODEFORCES_BODY, MediaType.APPLICATION_JSON));
+
+        List<Contest> contests = feed.fetch(null).contests();
+
+        assertThat(contests).singleElement().satisfies(contest -> {
+            assertThat(contest.getExternalId()).isEqualTo("codeforces:1980");
+            assertThat(contest.getName()).isEqualTo("Codeforces Round 950 (Div. 3)");
+            assertThat(contest.getPlatform()).isEqualTo("Codeforces");
+            assertThat(contest.getLink()).isEqualTo("https://codeforces.com/contests/1980");
+            assertThat(contest.getStartTime()).isEqualTo(local(1717425300));
+            assertThat(contest.getDuration()).isEqualTo("2h 15m");
+        });
+    }
+
+    @Test
+    void codeforcesFailureStatusFailsTheFetch() {
+        CodeforcesContestFeed feed = new CodeforcesContestFeed(restTemplateBuilder, objectMapper, CODEFORCES_URL);
+        server().expect(requestTo(CODEFORCES_URL)).andRespond(withSuccess(
+                "{\"status\":\"FAILED\",\"comment\":\"Call limit exceeded\"}", MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> feed.fetch(null)).isInstanceOf(IOException.class)
+                .hasMessageContaining("Call limit exceeded");
+    }
+
+    @Test
+    void parsesCodeChefPresentAndFutureContests() throws IOException {
+        CodeChefContestFeed feed = new CodeChefContestFeed(restTemplateBuilder, objectMapper, CODECHEF_URL);
+        server().expect(requestTo(CODECHEF_URL)).andRespond(withSuccess(CODECHEF_BODY, MediaType.APPLICATION_JSON));
+
+        List<Contest> contests = feed.fetch(null).contests();
+
+        assertThat(contests).extracting(Contest::getExternalId).containsExactly("codechef:START137", "codechef:START138");
+        assertThat(contests).extracting(Contest::getLink)
+                .containsExactly("https://www.codechef.com/START137", "https://www.codechef.com/START138");
+        assertThat(contests).extracting(Contest::getDuration).containsExactly("2 Hours", "2h 15m");
+        assertThat(contests.get(0).getStartTime()).isEqualTo(OffsetDateTime.parse("2024-06-05T20:00:00+05:30")
+                .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+    }
+
+    @Test
+    void codeChefUnreadableStartDateFailsTheFetch() {
+        CodeChefContestFeed feed = new CodeChefContestFeed(restTemplateBuilder, objectMapper, CODECHEF_URL);
+        server().expect(requestTo(CODECHEF_URL)).andRespond(withSuccess("""
+                {"future_contests":[{"contest_code":"START139","contest_name":"Starters 139",
+                  "contest_start_date_iso":"12 Jun 2024 20:00","contest_duration":"120"}]}""",
+                MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> feed.fetch(null)).isInstanceOf(IOException.class).hasMessageContaining("START139");
+    }
+
+    @Test
+    void sendsValidatorsBackAndTreats304AsUnchanged() throws IOException {
+        CodeforcesContestFeed feed = new CodeforcesContestFeed(restTemplateBuilder, objectMapper, CODEFORCES_URL);
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"v1\"");
+        validators.set(HttpHeaders.LAST_MODIFIED, "Sat, 01 Jun 2024 10:00:00 GMT");
+        MockRestServiceServer server = server();
+        server.expect(requestTo(CODEFORCES_URL))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(CODEFORCES_BODY, MediaType.APPLICATION_JSON).headers(validators));
+        server.expect(requestTo(CODEFORCES_URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(header(HttpHeaders.IF_MODIFIED_SINCE, "Sat, 01 Jun 2024 10:00:00 GMT"))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        ContestFeed.Fetch first = feed.fetch(null);
+        ContestFeed.Fetch second = feed.fetch(first.validators());
+
+        assertThat(first.contests()).hasSize(1);
+        assertThat(first.validators().etag()).isEqualTo("\"v1\"");
+        assertThat(second.contests()).isNull();
+        assertThat(second.validators()).isEqualTo(first.validators());
+        server.verify();
+    }
+
+    @Test
+    void sameBodyIsNotParsedAgain() throws IOException {
+        LeetCodeContestFeed feed = new LeetCodeContestFeed(restTemplateBuilder, objectMapper, LEETCODE_URL);
+        MockRestServiceServer server = server();
+        server.expect(requestTo(LEETCODE_URL)).andRespond(withSuccess(LEETCODE_BODY, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(LEETCODE_URL)).andRespond(withSuccess(LEETCODE_BODY, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(LEETCODE_URL)).andRespond(withSuccess(
+                LEETCODE_BODY.replace("Weekly Contest 400", "Weekly Contest 400 (rescheduled)"),
+                MediaType.APPLICATION_JSON));
+
+        ContestFeed.Fetch first = feed.fetch(null);
+        ContestFeed.Fetch unchanged = feed.fetch(first.validators());
+        ContestFeed.Fetch changed = feed.fetch(unchanged.validators());
+
+        assertThat(first.validators().etag()).isNull();
+        assertThat(unchanged.contests()).isNull();
+        assertThat(unchanged.validators()).isEqualTo(first.validators());
+        assertThat(changed.contests()).extracting(Contest::getName).contains("Weekly Contest 400 (rescheduled)");
+        assertThat(changed.validators().digest()).isNotEqualTo(first.validators().digest());
+        server.verify();
+    }
+
+    // The customizer binds a mock server to the RestTemplate the feed built from the builder
+    private MockRestServiceServer server() {
+        return platform.getServer();
+    }
+
+    private static LocalDateTime local(long epochSeconds) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneId.systemDefault());
+    }
+}
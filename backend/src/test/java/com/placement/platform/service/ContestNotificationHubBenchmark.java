@@ -0,0 +1,63 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Heap and threads held by idle contest streams: 10,000 subscribers whose
+ * emitters discard what they are sent, so only the hub's own per-connection
+ * state is counted. Tomcat's request and response buffers come on top of
+ * this in a running server.
+ */
+@Tag("benchmark")
+class ContestNotificationHubBenchmark {
+
+    private static final int CONNECTIONS = 10_000;
+
+    @Test
+    void idleConnections() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ContestNotificationHub hub = new ContestNotificationHub(mock(ContestService.class), new ObjectMapper(),
+                16, 4, 5, 30, 15, 30, 10);
+        List<SseEmitter> emitters = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            emitters.add(new DiscardingEmitter());
+        }
+        int threadsBefore = Thread.activeCount();
+        long heapBefore = liveHeap(memory);
+
+        emitters.forEach(emitter -> hub.subscribe(null, emitter));
+        long heapAfter = liveHeap(memory);
+
+        System.out.printf("%,d idle streams: %,d bytes of hub state per stream, %d new threads%n",
+                hub.subscriberCount(), (heapAfter - heapBefore) / CONNECTIONS, Thread.activeCount() - threadsBefore);
+        hub.shutdown();
+    }
+
+    private static long liveHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static final class DiscardingEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) {
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> frame) {
+        }
+    }
+}
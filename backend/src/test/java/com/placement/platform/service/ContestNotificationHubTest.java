@@ -0,0 +1,92 @@
+package com.placement.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContestNotificationHubTest {
+
+    private final ContestService contestService = mock(ContestService.class);
+    // One writer, a heartbeat every one-second tick and a one-second send timeout
+    private final ContestNotificationHub hub = new ContestNotificationHub(contestService, new ObjectMapper(),
+            16, 1, 1, 1, 15, 30, 1);
+
+    @AfterEach
+    void stop() {
+        hub.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotHoldUpTheOthers() throws Exception {
+        when(contestService.getContests(any(), any(), any())).thenReturn(List.of());
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        hub.subscribe(null, stalled);
+        hub.subscribe(null, healthy);
+
+        hub.start();
+
+        // The only writer is stuck in the stalled send from the first heartbeat on
+        assertThat(eventually(() -> healthy.frames.get() >= 4)).isTrue();
+        assertThat(stalled.frames).hasValue(1);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(stalled.completed.getCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(healthy.completed.getCount()).isEqualTo(1);
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    // Holds its own lock while sending, as a real emitter does while the socket write blocks
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch stall;
+        private final AtomicInteger frames = new AtomicInteger();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private RecordingEmitter(CountDownLatch stall) {
+            this.stall = stall;
+        }
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> frame) {
+            frames.incrementAndGet();
+            if (stall != null) {
+                try {
+                    stall.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Contest;
+import com.placement.platform.domain.ContestStatus;
+import com.placement.platform.dto.ContestView;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ContestScheduleTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Test
+    void readsListedDurations() {
+        assertThat(ContestSchedule.parseDuration("2h30m")).isEqualTo(Duration.ofMinutes(150));
+        assertThat(ContestSchedule.parseDuration("2h 30m")).isEqualTo(Duration.ofMinutes(150));
+        assertThat(ContestSchedule.parseDuration("1d2h")).isEqualTo(Duration.ofHours(26));
+        assertThat(ContestSchedule.parseDuration("1.5 Hours")).isEqualTo(Duration.ofMinutes(90));
+        assertThat(ContestSchedule.parseDuration("3 hrs")).isEqualTo(Duration.ofHours(3));
+        assertThat(ContestSchedule.parseDuration("90 minutes")).isEqualTo(Duration.ofMinutes(90));
+        assertThat(ContestSchedule.parseDuration("2:30")).isEqualTo(Duration.ofMinutes(150));
+        assertThat(ContestSchedule.parseDuration("PT2H")).isEqualTo(Duration.ofHours(2));
+    }
+
+    @Test
+    void unreadableDurationsFallBackToTheDefault() {
+        assertThat(ContestSchedule.parseDuration(null)).isEqualTo(ContestSchedule.DEFAULT_DURATION);
+        assertThat(ContestSchedule.parseDuration("2 months")).isEqualTo(ContestSchedule.DEFAULT_DURATION);
+        assertThat(ContestSchedule.parseDuration("soon")).isEqualTo(ContestSchedule.DEFAULT_DURATION);
+        assertThat(ContestSchedule.parseDuration("P-1D")).isEqualTo(ContestSchedule.DEFAULT_DURATION);
+    }
+
+    @Test
+    void statusAndLiveFollowTheParsedEndTime() {
+        Contest running = contest("Weekly 400", NOW.minusHours(2), "2h30m");
+        Contest ended = contest("Weekly 399", NOW.minusHours(3), "2h");
+        Contest upcoming = contest("Biweekly 120", NOW.plusDays(1), "1.5 Hours");
+        ContestSchedule schedule = ContestSchedule.of(List.of(running, ended, upcoming));
+
+        assertThat(schedule.live(null, NOW)).extracting(ContestView::name).containsExactly("Weekly 400");
+        assertThat(schedule.notEnded(null, NOW)).extracting(ContestView::name, ContestView::status)
+                .containsExactly(
+                        tuple("Weekly 400", ContestStatus.ONGOING),
+                        tuple("Biweekly 120", ContestStatus.UPCOMING));
+    }
+
+    @Test
+    void withReplacesByIdAndKeepsContestsMissingFromTheChange() {
+        Contest first = contest("Round 1", NOW.plusDays(1), "2h");
+        Contest second = contest("Round 2", NOW.plusDays(2), "2h");
+        ContestSchedule schedule = ContestSchedule.of(List.of(first, second));
+
+        Contest moved = contest("Round 1", NOW.plusDays(3), "2h");
+        moved.setId(first.getId());
+        moved.setExternalId(first.getExternalId());
+        ContestSchedule updated = schedule.with(List.of(moved));
+
+        assertThat(updated.size()).isEqualTo(2);
+        assertThat(updated.byExternalId(first.getExternalId()).getStartTime()).isEqualTo(NOW.plusDays(3));
+        assertThat(updated.notEnded(null, NOW)).extracting(ContestView::name).containsExactly("Round 2", "Round 1");
+        assertThat(schedule.byExternalId(first.getExternalId()).getStartTime()).isEqualTo(NOW.plusDays(1));
+    }
+
+    private static Contest contest(String name, LocalDateTime start, String duration) {
+        return Contest.builder().id(UUID.randomUUID()).externalId("leetcode:" + UUID.randomUUID()).name(name)
+                .platform("LeetCode").startTime(start).duration(duration).build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Contest;
+import com.placement.platform.dto.ContestView;
+import com.placement.platform.repository.ContestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContestServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(3).withNano(0);
+
+    private final ContestRepository contestRepository = mock(ContestRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final Contest weekly = contest("leetcode:weekly-contest-400", "Weekly Contest 400", START);
+    private final Contest round = contest("codeforces:1980", "Codeforces Round 950", START.plusDays(1));
+    private ContestService contestService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        weekly.setId(UUID.randomUUID());
+        round.setId(UUID.randomUUID());
+        when(contestRepository.findAll()).thenReturn(List.of(weekly, round));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        contestService = new ContestService(contestRepository, jdbcTemplate, transactionTemplate);
+        contestService.reload();
+    }
+
+    @Test
+    void unchangedListingWritesNothing() {
+        ContestService.Upserted upserted = contestService.upsert(List.of(
+                contest("leetcode:weekly-contest-400", "Weekly Contest 400", START),
+                contest("codeforces:1980", "Codeforces Round 950", START.plusDays(1))));
+
+        assertThat(upserted).isEqualTo(new ContestService.Upserted(0, 0));
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesOnlyNewAndChangedContests() {
+        Contest moved = contest("codeforces:1980", "Codeforces Round 950", START.plusDays(2));
+        Contest added = contest("codechef:START138", "Starters 138", START);
+
+        ContestService.Upserted upserted = contestService.upsert(List.of(
+                contest("leetcode:weekly-contest-400", "Weekly Contest 400", START), moved, added));
+
+        assertThat(upserted).isEqualTo(new ContestService.Upserted(1, 1));
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(insertSql()), inserts.capture());
+        verify(jdbcTemplate).batchUpdate(eq(updateSql()), updates.capture());
+        assertThat(inserts.getValue()).singleElement()
+                .satisfies(row -> assertThat(row[1]).isEqualTo("codechef:START138"));
+        assertThat(updates.getValue()).singleElement().satisfies(row -> {
+            assertThat(row[3]).isEqualTo(START.plusDays(2));
+            assertThat(row[5]).isEqualTo(round.getId());
+        });
+
+        // The next sync of the same listing finds it already in the snapshot
+        assertThat(contestService.upsert(List.of(moved, added))).isEqualTo(new ContestService.Upserted(0, 0));
+        assertThat(contestService.getContests(null, null, null)).extracting(ContestView::name)
+                .contains("Starters 138");
+    }
+
+    private static String insertSql() {
+        return "INSERT INTO contests (id, external_id, name, platform, link, start_time, duration) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    private static String updateSql() {
+        return "UPDATE contests SET name = ?, platform = ?, link = ?, start_time = ?, duration = ? WHERE id = ?";
+    }
+
+    private static Contest contest(String externalId, String name, LocalDateTime startTime) {
+        return Contest.builder()
+                .externalId(externalId)
+                .name(name)
+                .platform(externalId.substring(0, externalId.indexOf(':')))
+                .link("https://example.com/" + externalId)
+                .startTime(startTime)
+                .duration("2 Hours")
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Role;
+import com.placement.platform.domain.Status;
+import com.placement.platform.domain.User;
+import com.placement.platform.domain.UserProgress;
+import com.placement.platform.dto.ProgressView;
+import com.placement.platform.repository.QuestionRepository;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class DsaServiceProgressTest {
+
+    @Autowired
+    private DsaService dsaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserProgressRepository userProgressRepository;
+
+    @Test
+    void progressPagesThroughEveryRowInTitleOrder() {
+        // Shared titles so pages have to break ties on the question id
+        String prefix = "Progress view " + UUID.randomUUID() + " ";
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            questions.add(Question.builder().title(prefix + (i % 40)).topic("Arrays").difficulty(Difficulty.MEDIUM)
+                    .build());
+        }
+        User user = userWithProgress(questionRepository.saveAll(questions));
+
+        List<List<ProgressView>> pages = new ArrayList<>();
+        int pageSize = (int) ReflectionTestUtils.getField(dsaService, "progressPageSize");
+        ReflectionTestUtils.setField(dsaService, "progressPageSize", 64);
+        try {
+            dsaService.forEachProgressPage(user.getId(), pages::add);
+        } finally {
+            ReflectionTestUtils.setField(dsaService, "progressPageSize", pageSize);
+        }
+
+        List<ProgressView> views = pages.stream().flatMap(List::stream).toList();
+        assertThat(pages).hasSize(5);
+        assertThat(views).hasSize(300).isSortedAccordingTo(Comparator.comparing(ProgressView::title));
+        assertThat(views).extracting(ProgressView::questionId)
+                .containsExactlyInAnyOrderElementsOf(questions.stream().map(Question::getId).toList());
+    }
+
+    @Test
+    void progressPagesAreHandedOverWithNoTransactionOrConnectionHeld() {
+        Question question = questionRepository.save(Question.builder().title("Progress view " + UUID.randomUUID())
+                .topic("Arrays").difficulty(Difficulty.EASY).build());
+        User user = userWithProgress(List.of(question));
+
+        List<ProgressView> views = new ArrayList<>();
+        dsaService.forEachProgressPage(user.getId(), page -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+            views.addAll(page);
+        });
+
+        assertThat(views).extracting(ProgressView::questionId, ProgressView::status)
+                .containsExactly(tuple(question.getId(), Status.SOLVED));
+    }
+    private User userWithProgress(List<Question> solved) {
+        User user = userRepository.save(User.builder().email(UUID.randomUUID() + "@example.com").password("x")
+                .fullName("Progress").role(Role.STUDENT).build());
+        userProgressRepository.saveAll(solved.stream()
+                .map(question -> UserProgress.builder().user(user).question(question).status(Status.SOLVED).build())
+                .toList());
+        return user;
+    }
+}
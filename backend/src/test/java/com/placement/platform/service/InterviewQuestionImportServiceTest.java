@@ -0,0 +1,56 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.InterviewQuestion;
+import com.placement.platform.dto.ImportReport;
+import com.placement.platform.repository.CompanyRepository;
+import com.placement.platform.repository.InterviewQuestionRepository;
+import com.placement.platform.util.ImportRecordReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class InterviewQuestionImportServiceTest {
+
+    @Autowired
+    private InterviewQuestionImportService importService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private InterviewQuestionRepository interviewQuestionRepository;
+
+    @Test
+    void importsMultiLineDescriptionsFromSpreadsheetExports() throws Exception {
+        String company = "Import Co " + UUID.randomUUID();
+        String csv = "company,title,description,difficulty\r\n"
+                + company + ",Two Sum,\"Given an array, return the indices\r\nof two numbers that add up to\r\n"
+                + "the \"\"target\"\".\",EASY\r\n"
+                + company + ",LRU Cache,Design a cache,MEDIUM\r\n";
+
+        ImportReport report = importService.importQuestions(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportRecordReader.Format.CSV);
+
+        assertThat(report.getFailures()).isEmpty();
+        assertThat(report.getTotalRows()).isEqualTo(2);
+        assertThat(report.getImported()).isEqualTo(2);
+        UUID companyId = companyRepository.findByLowerCaseNameIn(List.of(company.toLowerCase(Locale.ROOT)))
+                .get(0).getId();
+        assertThat(interviewQuestionRepository.findByCompanyId(companyId))
+                .extracting(InterviewQuestion::getTitle, InterviewQuestion::getDescription)
+                .containsExactlyInAnyOrder(
+                        tuple("Two Sum",
+                                "Given an array, return the indices\nof two numbers that add up to\nthe \"target\"."),
+                        tuple("LRU Cache", "Design a cache"));
+    }
+}
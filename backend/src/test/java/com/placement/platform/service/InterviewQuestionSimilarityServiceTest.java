@@ -0,0 +1,86 @@
+package com.placement.platform.service;
+
+import com.placement.platform.dto.SimilarQuestion;
+import com.placement.platform.repository.CompanyRepository;
+import com.placement.platform.repository.InterviewQuestionRepository;
+import com.placement.platform.repository.InterviewQuestionRepository.SimilarityText;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InterviewQuestionSimilarityServiceTest {
+
+    private final InterviewQuestionRepository interviewQuestionRepository = mock(InterviewQuestionRepository.class);
+    private final CompanyRepository companyRepository = mock(CompanyRepository.class);
+    private final SimilarityText original = text("Longest palindromic substring");
+    private final SimilarityText reworded = text("Longest palindromic substring of a string");
+
+    @Test
+    void lookupsKeepWorkingWhileARebuildLoads() throws Exception {
+        InterviewQuestionSimilarityService similarity = new InterviewQuestionSimilarityService(
+                interviewQuestionRepository, companyRepository,
+                new CompanyService(companyRepository, interviewQuestionRepository, event -> { }, 10));
+        ReflectionTestUtils.setField(similarity, "maxResults", 100);
+        when(interviewQuestionRepository.streamSimilarityTexts()).thenReturn(Stream.of(original, reworded));
+        similarity.rebuild();
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(interviewQuestionRepository.streamSimilarityTexts()).thenReturn(Stream.of(original, reworded)
+                .peek(row -> {
+                    loading.countDown();
+                    await(finish);
+                }));
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(similarity::rebuild);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(similarity.similar(original.getId(), 0.5, 10)).extracting(SimilarQuestion::title)
+                .containsExactly(reworded.getTitle());
+
+        finish.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        assertThat(similarity.similar(original.getId(), 0.5, 10)).hasSize(1);
+    }
+
+    private static SimilarityText text(String title) {
+        UUID id = UUID.randomUUID();
+        return new SimilarityText() {
+            public UUID getId() {
+                return id;
+            }
+
+            public UUID getCompanyId() {
+                return null;
+            }
+
+            public String getTitle() {
+                return title;
+            }
+
+            public String getDescription() {
+                return null;
+            }
+
+            public String getTopic() {
+                return "Strings";
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.LeaderboardEntry;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.SolvedByTopic;
+import com.placement.platform.repository.UserRepository;
+import com.placement.platform.repository.UserRepository.DisplayName;
+import com.placement.platform.support.WriteBehindProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardServiceTest {
+
+    @TempDir
+    Path logDir;
+
+    private final UserProgressRepository userProgressRepository = mock(UserProgressRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DsaService dsaService = mock(DsaService.class);
+    private final ProgressStatistics progressStatistics = new ProgressStatistics(
+            userProgressRepository, Optional.empty(), event -> { }, 100);
+    private final Question question = Question.builder().id(UUID.randomUUID()).title("Two Sum").topic("Arrays")
+            .difficulty(Difficulty.EASY).build();
+    private final UUID ada = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private LeaderboardService leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        when(dsaService.catalog()).thenReturn(QuestionCatalog.of(1, List.of(question)));
+        when(userProgressRepository.countSolvedByUserAndTopic())
+                .thenReturn(List.of(solved(ada, "Arrays", 3), solved(bob, "Graphs", 1)));
+        when(userRepository.findDisplayNames(anyCollection()))
+                .thenReturn(List.of(name(ada, "Ada"), name(bob, "Bob")));
+        leaderboard = new LeaderboardService(userProgressRepository, userRepository, dsaService, progressStatistics,
+                100);
+        ReflectionTestUtils.setField(leaderboard, "maxPageSize", 100);
+        leaderboard.rebuild();
+    }
+
+    @Test
+    void looksUpEachNameOnce() {
+        List<LeaderboardEntry> first = leaderboard.top(null, 0, 10);
+        List<LeaderboardEntry> second = leaderboard.top(null, 0, 10);
+
+        assertThat(second).isEqualTo(first).extracting(LeaderboardEntry::fullName).containsExactly("Ada", "Bob");
+        verify(userRepository, times(1)).findDisplayNames(anyCollection());
+    }
+
+    @Test
+    void eventsMoveOverallAndTopicBoards() {
+        leaderboard.onProgressChanged(new ProgressChangedEvent(bob, question.getId(), null, Status.SOLVED));
+        leaderboard.onProgressChanged(new ProgressChangedEvent(bob, question.getId(), Status.SOLVED, Status.SOLVED));
+
+        assertThat(leaderboard.rankOf(bob, null).solved()).isEqualTo(2);
+        assertThat(leaderboard.rankOf(bob, "Arrays")).extracting(LeaderboardEntry::rank, LeaderboardEntry::solved)
+                .containsExactly(2L, 1);
+    }
+
+    @Test
+    void rebuildKeepsSolvesStillInTheWriteBehindBuffer() {
+        WriteBehindProgress progress = new WriteBehindProgress(logDir);
+        ProgressWriteBuffer buffer = progress.open();
+        when(userProgressRepository.countSolvedByUserAndTopic()).thenAnswer(invocation -> solvedIn(progress.table()));
+        AtomicReference<LeaderboardService> listener = new AtomicReference<>();
+        ProgressStatistics statistics = new ProgressStatistics(userProgressRepository, Optional.of(buffer),
+                event -> listener.get().onProgressChanged((ProgressChangedEvent) event), 100);
+        listener.set(board(statistics));
+        listener.get().rebuild();
+
+        List<ProgressWrite> writes = List.of(new ProgressWrite(bob, question.getId(), Status.SOLVED));
+        statistics.record(bob, writes, dsaService.catalog(), () -> buffer.submit(writes));
+        assertThat(progress.table()).isEmpty();
+        listener.get().rebuild();
+
+        assertThat(listener.get().rankOf(bob, null).solved()).isEqualTo(1);
+        assertThat(listener.get().rankOf(bob, "Arrays").solved()).isEqualTo(1);
+    }
+
+    @Test
+    void startupRebuildCountsSolvesReplayedFromTheLog() {
+        WriteBehindProgress progress = new WriteBehindProgress(logDir);
+        // Acknowledged before a crash and never flushed
+        progress.open().submit(List.of(new ProgressWrite(bob, question.getId(), Status.SOLVED)));
+        ProgressWriteBuffer restarted = progress.open();
+        when(userProgressRepository.countSolvedByUserAndTopic()).thenAnswer(invocation -> solvedIn(progress.table()));
+        LeaderboardService restartedBoard = board(
+                new ProgressStatistics(userProgressRepository, Optional.of(restarted), event -> { }, 100));
+
+        restartedBoard.rebuild();
+
+        assertThat(restartedBoard.rankOf(bob, null).solved()).isEqualTo(1);
+    }
+
+    private LeaderboardService board(ProgressStatistics statistics) {
+        LeaderboardService board = new LeaderboardService(userProgressRepository, userRepository, dsaService,
+                statistics, 100);
+        ReflectionTestUtils.setField(board, "maxPageSize", 100);
+        return board;
+    }
+
+    // Every question in these tests is under Arrays
+    private static List<SolvedByTopic> solvedIn(Map<UUID, Map<UUID, Status>> table) {
+        List<SolvedByTopic> rows = new ArrayList<>();
+        table.forEach((userId, statuses) -> {
+            long solved = statuses.values().stream().filter(status -> status == Status.SOLVED).count();
+            if (solved > 0) {
+                rows.add(solved(userId, "Arrays", solved));
+            }
+        });
+        return rows;
+    }
+
+    private static SolvedByTopic solved(UUID userId, String topic, long solved) {
+        return new SolvedByTopic() {
+            public UUID getUserId() {
+                return userId;
+            }
+
+            public String getTopic() {
+                return topic;
+            }
+
+            public long getSolved() {
+                return solved;
+            }
+        };
+    }
+
+    private static DisplayName name(UUID id, String fullName) {
+        return new DisplayName() {
+            public UUID getId() {
+                return id;
+            }
+
+            public String getFullName() {
+                return fullName;
+            }
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.ProgressUpdate;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.repository.UserProgressRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProgressStatisticsTest {
+
+    private final Question question = Question.builder().id(UUID.randomUUID()).title("Two Sum").topic("Arrays")
+            .difficulty(Difficulty.EASY).build();
+    private final QuestionCatalog catalog = QuestionCatalog.of(1, List.of(question));
+    private final UserProgressRepository repository = mock(UserProgressRepository.class);
+    private final List<Object> events = new ArrayList<>();
+    private final ApplicationEventPublisher publisher = events::add;
+    // Stands in for user_progress: only what the persist action has committed
+    private final Map<UUID, Status> committed = new ConcurrentHashMap<>();
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void appliesOnlyAfterTheSurroundingTransactionCommits() {
+        when(repository.findStatusesByUserId(userId)).thenAnswer(invocation -> stored());
+        ProgressStatistics statistics = new ProgressStatistics(repository, Optional.empty(), publisher, 100);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statistics.record(userId, solve(), catalog, () -> committed.put(question.getId(), Status.SOLVED));
+            assertThat(events).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(statistics.solvedCount(userId, catalog)).isEqualTo(1);
+        assertThat(events).containsExactly(new ProgressChangedEvent(userId, question.getId(), null, Status.SOLVED));
+    }
+
+    @Test
+    void rolledBackWriteIsNeverApplied() {
+        when(repository.findStatusesByUserId(userId)).thenAnswer(invocation -> stored());
+        ProgressStatistics statistics = new ProgressStatistics(repository, Optional.empty(), publisher, 100);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statistics.record(userId, solve(), catalog, () -> { });
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(statistics.solvedCount(userId, catalog)).isZero();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void failingListenerDoesNotFailACommittedWrite() {
+        when(repository.findStatusesByUserId(userId)).thenAnswer(invocation -> stored());
+        ApplicationEventPublisher failing = mock(ApplicationEventPublisher.class);
+        doThrow(new IllegalStateException("listener bug")).when(failing).publishEvent(any(Object.class));
+        ProgressStatistics statistics = new ProgressStatistics(repository, Optional.empty(), failing, 100);
+
+        statistics.record(userId, solve(), catalog, () -> committed.put(question.getId(), Status.SOLVED));
+
+        assertThat(statistics.solvedCount(userId, catalog)).isEqualTo(1);
+    }
+
+    @Test
+    void loadAfterEvictionWaitsForTheInFlightWrite() throws Exception {
+        UUID otherUser = userInAnotherStripe();
+        when(repository.findStatusesByUserId(userId)).thenAnswer(invocation -> stored());
+        when(repository.findStatusesByUserId(otherUser)).thenReturn(List.of());
+        ProgressStatistics statistics = new ProgressStatistics(repository, Optional.empty(), publisher, 1);
+        assertThat(statistics.solvedCount(userId, catalog)).isZero();
+
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> statistics.record(userId, solve(), catalog,
+                () -> {
+                    persisting.countDown();
+                    await(commit);
+                    committed.put(question.getId(), Status.SOLVED);
+                }));
+        assertThat(persisting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // With room for one user, this evicts the copy the writer is about to update
+        statistics.solvedCount(otherUser, catalog);
+        CompletableFuture<Long> reader = CompletableFuture.supplyAsync(() -> statistics.solvedCount(userId, catalog));
+        Thread.sleep(100);
+        assertThat(reader).isNotDone();
+
+        commit.countDown();
+        writer.get(5, TimeUnit.SECONDS);
+        assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    void writesWaitWhileARebuildReads() throws Exception {
+        when(repository.findStatusesByUserId(userId)).thenAnswer(invocation -> stored());
+        ProgressStatistics statistics = new ProgressStatistics(repository, Optional.empty(), publisher, 100);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Integer> rebuild = CompletableFuture.supplyAsync(() -> statistics.withWritesPaused(() -> {
+            reading.countDown();
+            await(finish);
+            return committed.size();
+        }));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> statistics.record(userId, solve(), catalog,
+                () -> committed.put(question.getId(), Status.SOLVED)));
+        Thread.sleep(100);
+        assertThat(writer).isNotDone();
+
+        finish.countDown();
+        assertThat(rebuild.get(5, TimeUnit.SECONDS)).isZero();
+        writer.get(5, TimeUnit.SECONDS);
+        assertThat(events).hasSize(1);
+    }
+
+    private List<ProgressWrite> solve() {
+        return List.of(new ProgressWrite(userId, question.getId(), Status.SOLVED));
+    }
+
+    private List<ProgressUpdate> stored() {
+        List<ProgressUpdate> rows = new ArrayList<>();
+        committed.forEach((questionId, status) -> rows.add(new ProgressUpdate(questionId, status)));
+        return rows;
+    }
+
+    private UUID userInAnotherStripe() {
+        while (true) {
+            UUID candidate = UUID.randomUUID();
+            if (Math.floorMod(candidate.hashCode(), 64) != Math.floorMod(userId.hashCode(), 64)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
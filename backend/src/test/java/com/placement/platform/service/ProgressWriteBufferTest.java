@@ -0,0 +1,71 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Status;
+import com.placement.platform.repository.UserProgressJdbcRepository;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ProgressWriteBufferTest {
+
+    private static final long NEVER = 3_600_000;
+
+    @TempDir
+    Path logDir;
+
+    private final UserProgressJdbcRepository repository = mock(UserProgressJdbcRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final UUID userId = UUID.randomUUID();
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void acknowledgedWritesSurviveACrashWithATornTail() throws IOException {
+        ProgressWriteBuffer crashed = buffer();
+        crashed.submit(List.of(new ProgressWrite(userId, first, Status.ATTEMPTED)));
+        crashed.submit(List.of(new ProgressWrite(userId, first, Status.SOLVED),
+                new ProgressWrite(userId, second, Status.ATTEMPTED)));
+        // The process dies mid-append: half a record reaches the log and the buffer is never flushed
+        Files.write(latestSegment(), new byte[] { 0, 0, 0, 40, 9, 9, 9, 9, 1, 2 }, StandardOpenOption.APPEND);
+
+        ProgressWriteBuffer restarted = buffer();
+        assertThat(restarted.pendingFor(userId))
+                .containsEntry(first, Status.SOLVED)
+                .containsEntry(second, Status.ATTEMPTED)
+                .hasSize(2);
+
+        restarted.flush();
+        ArgumentCaptor<List<ProgressWrite>> flushed = ArgumentCaptor.forClass(List.class);
+        verify(repository).upsertAll(flushed.capture());
+        assertThat(flushed.getValue()).containsExactlyInAnyOrder(
+                new ProgressWrite(userId, first, Status.SOLVED), new ProgressWrite(userId, second, Status.ATTEMPTED));
+        assertThat(restarted.pendingFor(userId)).isEmpty();
+
+        assertThat(buffer().pendingFor(userId)).isEmpty();
+    }
+
+    private ProgressWriteBuffer buffer() {
+        return new ProgressWriteBuffer(repository, transactionManager, logDir.toString(), NEVER, 10_000);
+    }
+
+    private Path latestSegment() throws IOException {
+        try (Stream<Path> files = Files.list(logDir)) {
+            return files.sorted().reduce((a, b) -> b).orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.dto.CursorPage;
+import com.placement.platform.util.QuestionCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionCatalogTest {
+
+    @Test
+    void searchPagesThroughMatchesInOrder() {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            questions.add(question(String.format("Tree %02d", i), "Trees", Difficulty.MEDIUM));
+            questions.add(question(String.format("Array %02d", i), "Arrays", Difficulty.EASY));
+        }
+        QuestionCatalog catalog = QuestionCatalog.of(1, questions);
+
+        List<String> titles = new ArrayList<>();
+        QuestionCursor.Key after = null;
+        CursorPage<Question> page;
+        do {
+            page = catalog.page(null, null, "TREE", after, 7);
+            assertThat(page.total()).isEqualTo(30);
+            page.items().forEach(question -> titles.add(question.getTitle()));
+            after = page.nextCursor() == null ? null : QuestionCursor.decode(page.nextCursor());
+        } while (page.hasNext());
+
+        assertThat(titles).hasSize(30).isSorted().allMatch(title -> title.startsWith("Tree"));
+    }
+
+    @Test
+    void searchCombinesWithDifficultyAndMatchesTopic() {
+        QuestionCatalog catalog = QuestionCatalog.of(1, List.of(
+                question("Two Sum", "Arrays", Difficulty.EASY),
+                question("Trapping Rain Water", "Arrays", Difficulty.HARD),
+                question("Word Ladder", "Graphs", Difficulty.HARD)));
+
+        assertThat(catalog.page(null, Difficulty.HARD, "array", null, 10).items())
+                .extracting(Question::getTitle).containsExactly("Trapping Rain Water");
+        assertThat(catalog.page(null, null, " ", null, 10).total()).isEqualTo(3);
+    }
+
+    private static Question question(String title, String topic, Difficulty difficulty) {
+        return Question.builder().id(UUID.randomUUID()).title(title).topic(topic).difficulty(difficulty).build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.UserQuestionStatus;
+import com.placement.platform.support.Benchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Recommendations for 50k synthetic students over a 3,000 question bank in
+ * 20 topics, each student with up to 150 started questions. Measured on its
+ * own and again while full rebuilds run back to back on another thread, which
+ * is when the old clear-then-reload left students with an empty solved set.
+ */
+@Tag("benchmark")
+class RecommendationServiceBenchmark {
+
+    private static final int QUESTIONS = 3_000;
+    private static final int TOPICS = 20;
+    private static final int STUDENTS = 50_000;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(3);
+
+    private record Row(UUID getUserId, UUID getQuestionId, Status getStatus) implements UserQuestionStatus {
+    }
+
+    @Test
+    void recommend() throws Exception {
+        Random random = new Random(1);
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            questions.add(Question.builder().id(UUID.randomUUID()).title("Question " + i)
+                    .topic("Topic " + random.nextInt(TOPICS))
+                    .difficulty(Difficulty.values()[random.nextInt(Difficulty.values().length)]).build());
+        }
+        UUID[] students = new UUID[STUDENTS];
+        List<UserQuestionStatus> rows = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students[i] = UUID.randomUUID();
+            for (int j = random.nextInt(151); j > 0; j--) {
+                rows.add(new Row(students[i], questions.get(random.nextInt(QUESTIONS)).getId(),
+                        random.nextInt(4) == 0 ? Status.ATTEMPTED : Status.SOLVED));
+            }
+        }
+        UserProgressRepository repository = mock(UserProgressRepository.class);
+        DsaService dsaService = mock(DsaService.class);
+        when(dsaService.catalog()).thenReturn(QuestionCatalog.of(1, questions));
+        when(repository.streamStartedProgress()).thenAnswer(invocation -> rows.stream());
+        RecommendationService service = new RecommendationService(dsaService, repository,
+                new ProgressStatistics(repository, Optional.empty(), event -> { }, 100));
+        ReflectionTestUtils.setField(service, "maxResults", 50);
+
+        long start = System.nanoTime();
+        service.rebuild();
+        System.out.printf("rebuild from %,d rows: %d ms%n", rows.size(), (System.nanoTime() - start) / 1_000_000);
+
+        Benchmark.run("recommend 10", WARMUP, MEASURE, () -> service.recommend(anyStudent(students), 10));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread rebuilds = new Thread(() -> {
+            while (running.get()) {
+                service.rebuild();
+            }
+        });
+        rebuilds.start();
+        try {
+            Benchmark.run("recommend 10 during rebuilds", WARMUP, MEASURE,
+                    () -> service.recommend(anyStudent(students), 10));
+        } finally {
+            running.set(false);
+            rebuilds.join();
+        }
+    }
+
+    private static UUID anyStudent(UUID[] students) {
+        return students[ThreadLocalRandom.current().nextInt(students.length)];
+    }
+}
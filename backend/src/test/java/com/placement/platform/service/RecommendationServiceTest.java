@@ -0,0 +1,130 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.Recommendation;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.UserQuestionStatus;
+import com.placement.platform.support.WriteBehindProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecommendationServiceTest {
+
+    @TempDir
+    Path logDir;
+
+    private final UserProgressRepository userProgressRepository = mock(UserProgressRepository.class);
+    private final DsaService dsaService = mock(DsaService.class);
+    private final Question twoSum = question("Two Sum");
+    private final Question threeSum = question("Three Sum");
+    private final UUID student = UUID.randomUUID();
+    private RecommendationService recommendations;
+
+    @BeforeEach
+    void setUp() {
+        when(dsaService.catalog()).thenReturn(QuestionCatalog.of(1, List.of(twoSum, threeSum)));
+        recommendations = new RecommendationService(dsaService, userProgressRepository,
+                new ProgressStatistics(userProgressRepository, Optional.empty(), event -> { }, 100));
+        ReflectionTestUtils.setField(recommendations, "maxResults", 50);
+    }
+
+    @Test
+    void keepsServingTheOldStudentsWhileARebuildLoads() throws Exception {
+        when(userProgressRepository.streamStartedProgress()).thenReturn(Stream.of(solved(twoSum)));
+        recommendations.rebuild();
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(userProgressRepository.streamStartedProgress()).thenReturn(Stream.of(solved(twoSum)).peek(row -> {
+            loading.countDown();
+            await(finish);
+        }));
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(recommendations::rebuild);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(recommendations.recommend(student, 10)).extracting(Recommendation::questionId)
+                .containsExactly(threeSum.getId());
+
+        finish.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        assertThat(recommendations.recommend(student, 10)).extracting(Recommendation::questionId)
+                .containsExactly(threeSum.getId());
+    }
+
+    @Test
+    void rebuildKeepsProgressStillInTheWriteBehindBuffer() {
+        WriteBehindProgress progress = new WriteBehindProgress(logDir);
+        ProgressWriteBuffer buffer = progress.open();
+        when(userProgressRepository.streamStartedProgress()).thenAnswer(invocation -> startedIn(progress.table()));
+        ProgressStatistics statistics = new ProgressStatistics(userProgressRepository, Optional.of(buffer),
+                event -> { }, 100);
+        recommendations = new RecommendationService(dsaService, userProgressRepository, statistics);
+        ReflectionTestUtils.setField(recommendations, "maxResults", 50);
+        recommendations.rebuild();
+
+        List<ProgressWrite> writes = List.of(new ProgressWrite(student, twoSum.getId(), Status.SOLVED));
+        statistics.record(student, writes, dsaService.catalog(), () -> buffer.submit(writes));
+        assertThat(progress.table()).isEmpty();
+        recommendations.rebuild();
+
+        assertThat(recommendations.recommend(student, 10)).extracting(Recommendation::questionId)
+                .containsExactly(threeSum.getId());
+    }
+
+    private UserQuestionStatus solved(Question question) {
+        return status(student, question.getId(), Status.SOLVED);
+    }
+
+    private static Stream<UserQuestionStatus> startedIn(Map<UUID, Map<UUID, Status>> table) {
+        return table.entrySet().stream().flatMap(user -> user.getValue().entrySet().stream()
+                .map(row -> status(user.getKey(), row.getKey(), row.getValue())));
+    }
+
+    private static UserQuestionStatus status(UUID userId, UUID questionId, Status status) {
+        return new UserQuestionStatus() {
+            public UUID getUserId() {
+                return userId;
+            }
+
+            public UUID getQuestionId() {
+                return questionId;
+            }
+
+            public Status getStatus() {
+                return status;
+            }
+        };
+    }
+
+    private static Question question(String title) {
+        return Question.builder().id(UUID.randomUUID()).title(title).topic("Arrays").difficulty(Difficulty.EASY)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.placement.platform.service;
+
+import com.placement.platform.domain.Difficulty;
+import com.placement.platform.domain.Question;
+import com.placement.platform.domain.Status;
+import com.placement.platform.dto.RevisionItem;
+import com.placement.platform.event.ProgressChangedEvent;
+import com.placement.platform.repository.UserProgressJdbcRepository;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.repository.UserProgressRepository;
+import com.placement.platform.repository.UserProgressRepository.SolvedReview;
+import com.placement.platform.support.WriteBehindProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RevisionServiceTest {
+
+    @TempDir
+    Path logDir;
+
+    private final DsaService dsaService = mock(DsaService.class);
+    private final UserProgressRepository userProgressRepository = mock(UserProgressRepository.class);
+    private final Question question = Question.builder().id(UUID.randomUUID()).title("Two Sum").topic("Arrays")
+            .difficulty(Difficulty.EASY).build();
+    private final UUID student = UUID.randomUUID();
+    private WriteBehindProgress progress;
+    private ProgressWriteBuffer buffer;
+    private ProgressStatistics statistics;
+    private RevisionService revisions;
+
+    @BeforeEach
+    void setUp() {
+        when(dsaService.catalog()).thenReturn(QuestionCatalog.of(1, List.of(question)));
+        progress = new WriteBehindProgress(logDir);
+        buffer = progress.open();
+        UserProgressJdbcRepository jdbcRepository = progress.repository();
+        // Only a flushed SOLVED row can be updated
+        when(jdbcRepository.updateReview(any(), any(), anyInt(), any())).thenAnswer(invocation ->
+                progress.table().getOrDefault(invocation.getArgument(0), Map.of())
+                        .get(invocation.getArgument(1)) == Status.SOLVED);
+        when(userProgressRepository.streamSolvedReviews()).thenAnswer(invocation -> solvedIn(progress.table()));
+        AtomicReference<RevisionService> listener = new AtomicReference<>();
+        statistics = new ProgressStatistics(userProgressRepository, Optional.of(buffer),
+                event -> listener.get().onProgressChanged((ProgressChangedEvent) event), 100);
+        revisions = new RevisionService(dsaService, userProgressRepository, jdbcRepository, statistics,
+                Optional.of(buffer));
+        ReflectionTestUtils.setField(revisions, "intervalDays", new int[] { 1, 3, 7 });
+        listener.set(revisions);
+        revisions.rebuild();
+    }
+
+    @Test
+    void reviewsASolveStillInTheWriteBehindBuffer() {
+        solve();
+
+        RevisionItem reviewed = revisions.review(student, question.getId(), true);
+
+        assertThat(reviewed.step()).isEqualTo(1);
+        assertThat(progress.table().get(student)).containsEntry(question.getId(), Status.SOLVED);
+    }
+
+    @Test
+    void rebuildKeepsSolvesStillInTheWriteBehindBuffer() {
+        solve();
+
+        revisions.rebuild();
+        assertThat(progress.table()).isNotEmpty();
+
+        assertThat(revisions.review(student, question.getId(), false).step()).isZero();
+    }
+
+    private void solve() {
+        List<ProgressWrite> writes = List.of(new ProgressWrite(student, question.getId(), Status.SOLVED));
+        statistics.record(student, writes, dsaService.catalog(), () -> buffer.submit(writes));
+        assertThat(progress.table()).isEmpty();
+    }
+
+    private static Stream<SolvedReview> solvedIn(Map<UUID, Map<UUID, Status>> table) {
+        LocalDateTime now = LocalDateTime.now();
+        return table.entrySet().stream().flatMap(user -> user.getValue().entrySet().stream()
+                .filter(row -> row.getValue() == Status.SOLVED)
+                .map(row -> new SolvedReview() {
+                    public UUID getUserId() {
+                        return user.getKey();
+                    }
+
+                    public UUID getQuestionId() {
+                        return row.getKey();
+                    }
+
+                    public LocalDateTime getCompletedAt() {
+                        return now;
+                    }
+
+                    public LocalDateTime getSolvedAt() {
+                        return now;
+                    }
+
+                    public Integer getReviewStep() {
+                        return null;
+                    }
+
+                    public LocalDateTime getNextReviewAt() {
+                        return null;
+                    }
+                }));
+    }
+}
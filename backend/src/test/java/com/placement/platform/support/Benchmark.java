@@ -0,0 +1,75 @@
+package com.placement.platform.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Minimal timing harness for the opt-in benchmark tests ({@code mvn test -Pbenchmark}).
+ * Each operation is warmed up first, then timed in batches; results are
+ * printed so runs can be compared across commits on the same machine.
+ */
+public final class Benchmark {
+
+    // Keeps results reachable so the JIT cannot drop the measured work
+    private static volatile int sink;
+
+    private Benchmark() {
+    }
+
+    public record Result(String name, double opsPerSecond, double p50Micros, double p99Micros) {
+        @Override
+        public String toString() {
+            return String.format("%-48s %,14.0f ops/s   p50 %,10.2f us   p99 %,10.2f us",
+                    name, opsPerSecond, p50Micros, p99Micros);
+        }
+    }
+
+    public static Result run(String name, Duration warmup, Duration measure, Supplier<?> operation) {
+        loop(warmup, operation, null);
+        long[] samples = new long[1 << 16];
+        int[] count = new int[1];
+        long operations = loop(measure, operation, (nanos) -> {
+            if (count[0] < samples.length) {
+                samples[count[0]++] = nanos;
+            }
+        });
+        long[] sorted = Arrays.copyOf(samples, count[0]);
+        Arrays.sort(sorted);
+        Result result = new Result(name, operations / (measure.toNanos() / 1e9),
+                percentile(sorted, 0.50) / 1e3, percentile(sorted, 0.99) / 1e3);
+        System.out.println(result);
+        return result;
+    }
+
+    public static void consume(Object value) {
+        sink += value == null ? 0 : value.hashCode();
+    }
+
+    private interface Sampler {
+        void sample(long nanos);
+    }
+
+    private static long loop(Duration duration, Supplier<?> operation, Sampler sampler) {
+        long end = System.nanoTime() + duration.toNanos();
+        long operations = 0;
+        while (System.nanoTime() < end) {
+            long start = System.nanoTime();
+            Object value = operation.get();
+            long elapsed = System.nanoTime() - start;
+            consume(value);
+            if (sampler != null) {
+                sampler.sample(elapsed);
+            }
+            operations++;
+        }
+        return operations;
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))];
+    }
+}
@@ -0,0 +1,64 @@
+package com.placement.platform.support;
+
+import com.placement.platform.domain.Status;
+import com.placement.platform.repository.UserProgressJdbcRepository;
+import com.placement.platform.repository.UserProgressJdbcRepository.ProgressWrite;
+import com.placement.platform.service.ProgressWriteBuffer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Write-behind progress for read-model tests: buffers over a log in the given
+ * directory that never flush on their own, writing into an in-memory stand-in
+ * for user_progress only when something flushes them.
+ */
+public final class WriteBehindProgress {
+
+    private static final long NEVER = 3_600_000;
+
+    private final Path logDir;
+    private final UserProgressJdbcRepository repository = mock(UserProgressJdbcRepository.class);
+    private final Map<UUID, Map<UUID, Status>> table = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public WriteBehindProgress(Path logDir) {
+        this.logDir = logDir;
+        doAnswer(invocation -> {
+            ((List<ProgressWrite>) invocation.getArgument(0)).forEach(this::store);
+            return null;
+        }).when(repository).upsertAll(anyList());
+        doAnswer(invocation -> {
+            store(invocation.getArgument(0));
+            return null;
+        }).when(repository).upsert(any());
+    }
+
+    // A second buffer over the same directory replays what the first acknowledged, like a restart
+    public ProgressWriteBuffer open() {
+        return new ProgressWriteBuffer(repository, mock(PlatformTransactionManager.class), logDir.toString(), NEVER,
+                10_000);
+    }
+
+    public UserProgressJdbcRepository repository() {
+        return repository;
+    }
+
+    // Flushed rows by user, then question
+    public Map<UUID, Map<UUID, Status>> table() {
+        return table;
+    }
+
+    private void store(ProgressWrite write) {
+        table.computeIfAbsent(write.userId(), id -> new ConcurrentHashMap<>()).put(write.questionId(), write.status());
+    }
+}
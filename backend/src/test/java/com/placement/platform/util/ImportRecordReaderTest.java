@@ -0,0 +1,81 @@
+package com.placement.platform.util;
+
+import com.placement.platform.util.ImportRecordReader.Format;
+import com.placement.platform.util.ImportRecordReader.ImportRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportRecordReaderTest {
+
+    @Test
+    void quotedFieldsMaySpanLines() throws IOException {
+        List<ImportRecord> records = read("""
+                title,description,difficulty
+                Two Sum,"Given an array, find two numbers
+                that add up to the target.
+
+                Return their ""indices"".",EASY
+                LRU Cache,Design a cache,MEDIUM
+                """);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).error()).isNull();
+        assertThat(records.get(0).fields().get("description"))
+                .isEqualTo("Given an array, find two numbers\nthat add up to the target.\n\nReturn their \"indices\".");
+        assertThat(records.get(0).get("difficulty")).isEqualTo("EASY");
+        assertThat(records.get(0)).extracting(ImportRecord::row, ImportRecord::lastRow).containsExactly(1L, 4L);
+        assertThat(records.get(1).get("title")).isEqualTo("LRU Cache");
+        assertThat(records.get(1)).extracting(ImportRecord::row, ImportRecord::lastRow).containsExactly(5L, 5L);
+    }
+
+    @Test
+    void unclosedQuoteAtTheEndIsOneMalformedRecord() throws IOException {
+        List<ImportRecord> records = read("""
+                title,description
+                Two Sum,Plain
+                LRU Cache,"Never closed
+                still inside
+                """);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).error()).isNull();
+        assertThat(records.get(1).error()).isEqualTo("Malformed row: unterminated quoted field (rows 2-3)");
+        assertThat(records.get(1)).extracting(ImportRecord::row, ImportRecord::lastRow).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void ndjsonRecordsAreOneLineEach() throws IOException {
+        List<ImportRecord> records = read(Format.NDJSON, """
+                {"title":"Two Sum","description":"line one\\nline two"}
+
+                not json
+                """);
+
+        assertThat(records).extracting(ImportRecord::row).containsExactly(1L, 3L);
+        assertThat(records.get(0).fields().get("description")).isEqualTo("line one\nline two");
+        assertThat(records.get(1).error()).startsWith("Malformed row");
+    }
+
+    private static List<ImportRecord> read(String input) throws IOException {
+        return read(Format.CSV, input);
+    }
+
+    private static List<ImportRecord> read(Format format, String input) throws IOException {
+        List<ImportRecord> records = new ArrayList<>();
+        try (ImportRecordReader reader = new ImportRecordReader(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format)) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
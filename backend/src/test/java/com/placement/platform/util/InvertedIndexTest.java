@@ -0,0 +1,80 @@
+package com.placement.platform.util;
+
+import com.placement.platform.util.InvertedIndex.Field;
+import com.placement.platform.util.InvertedIndex.Hit;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class InvertedIndexTest {
+
+    private static final String[] WORDS = { "array", "graph", "tree", "heap", "stack", "queue", "trie", "sort" };
+
+    @Test
+    void replacingADocumentPurgesItsOldTerms() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.add(1, "v1", List.of(new Field("binary tree traversal", 1)));
+        index.add(1, "v2", List.of(new Field("graph coloring", 1)));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("tree", 10, null)).isEmpty();
+        assertThat(index.search("trav", 10, null)).isEmpty();
+        assertThat(index.search("graph", 10, null)).extracting(Hit::document).containsExactly("v2");
+    }
+
+    @Test
+    void repeatedReplacementsKeepScoresPositive() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.add(1, "hot", List.of(new Field("dynamic programming", 1)));
+        index.add(2, "other", List.of(new Field("greedy", 1)));
+        for (int i = 0; i < 100; i++) {
+            index.add(1, "hot", List.of(new Field("dynamic programming", 1)));
+        }
+
+        assertThat(index.search("dynamic", 10, null)).singleElement()
+                .satisfies(hit -> assertThat(hit.score()).isPositive());
+    }
+
+    @Test
+    void scoresMatchAnIndexBuiltFromTheSurvivingDocuments() {
+        Random random = new Random(3);
+        InvertedIndex<Integer> churned = new InvertedIndex<>();
+        Map<Integer, Field> latest = new HashMap<>();
+        for (int step = 0; step < 2000; step++) {
+            int key = random.nextInt(50);
+            Field field = new Field(randomText(random), 1 + random.nextInt(3));
+            churned.add(key, key, List.of(field));
+            latest.put(key, field);
+        }
+        InvertedIndex<Integer> fresh = new InvertedIndex<>();
+        latest.forEach((key, field) -> fresh.add(key, key, List.of(field)));
+
+        assertThat(churned.size()).isEqualTo(fresh.size());
+        for (String word : WORDS) {
+            Map<Integer, Float> expected = scores(fresh.search(word, 100, null));
+            Map<Integer, Float> actual = scores(churned.search(word, 100, null));
+            assertThat(actual.keySet()).isEqualTo(expected.keySet());
+            expected.forEach((key, score) -> assertThat(actual.get(key)).isCloseTo(score, offset(1e-4f)));
+        }
+    }
+
+    private static Map<Integer, Float> scores(List<Hit<Integer>> hits) {
+        Map<Integer, Float> scores = new HashMap<>();
+        hits.forEach(hit -> scores.put(hit.document(), hit.score()));
+        return scores;
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0, n = 1 + random.nextInt(4); i < n; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.placement.platform.util;
+
+import com.placement.platform.util.MinHashIndex.Match;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinHashIndexTest {
+
+    @Test
+    void findsRewordedQuestionsButNotUnrelatedOnes() {
+        MinHashIndex<String> index = new MinHashIndex<>();
+        index.put("a", "Longest palindromic substring", "Find the longest palindromic substring in a string");
+        index.put("b", "Longest palindromic substring", "Return the longest palindromic substring of the string");
+        index.put("c", "Merge k sorted lists", "Merge k sorted linked lists into one sorted list");
+
+        assertThat(index.similar("a", 0.5, 10)).extracting(Match::key).containsExactly("b");
+        assertThat(index.similar("c", 0.5, 10)).isEmpty();
+    }
+
+    @Test
+    void identicalTextsAreFullySimilar() {
+        MinHashIndex<String> index = new MinHashIndex<>();
+        index.put("a", "Two Sum", "Find two numbers that add up to the target");
+        index.put("b", "two sum!", "find two numbers, that add up to target");
+
+        assertThat(index.similar("a", 0.1, 10)).containsExactly(new Match<>("b", 1.0));
+    }
+
+    @Test
+    void reAddingAKeyReplacesItsText() {
+        MinHashIndex<String> index = new MinHashIndex<>();
+        index.put("a", "Course schedule", "Detect a cycle in the prerequisite graph");
+        index.put("b", "Course schedule", "Detect a cycle in the prerequisite graph");
+        index.put("b", "Trapping rain water", "Compute how much water the elevation map traps");
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.similar("a", 0.3, 10)).isEmpty();
+        assertThat(index.similar("b", 0.3, 10)).isEmpty();
+    }
+
+    @Test
+    void textWithoutWordsIsNotIndexedAndDropsTheEarlierText() {
+        MinHashIndex<String> index = new MinHashIndex<>();
+        index.put("a", "LRU cache");
+        index.put("a", "?!", null);
+
+        assertThat(index.contains("a")).isFalse();
+        assertThat(index.size()).isZero();
+        assertThat(index.similar("a", 0.1, 10)).isEmpty();
+    }
+
+    @Test
+    void groupsClustersLargestFirstAroundTheBestConnectedQuestion() {
+        MinHashIndex<String> index = new MinHashIndex<>();
+        String lru = "Design an LRU cache with get and put in constant time";
+        index.put("lru-1", lru);
+        index.put("lru-2", lru);
+        index.put("lru-3", lru);
+        index.put("islands-1", "Count the number of islands in a grid of land and water");
+        index.put("islands-2", "Count the number of islands in a grid of land and water");
+        index.put("alone", "Serialize and deserialize a binary tree");
+
+        assertThat(index.groups(0.9)).satisfiesExactly(
+                group -> assertThat(group.members()).hasSize(2).allSatisfy(
+                        member -> assertThat(member.key()).startsWith("lru")),
+                group -> assertThat(group.members()).extracting(Match::key).containsExactly(
+                        group.representative().equals("islands-1") ? "islands-2" : "islands-1"));
+    }
+}
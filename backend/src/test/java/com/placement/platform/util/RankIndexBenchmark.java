@@ -0,0 +1,59 @@
+package com.placement.platform.util;
+
+import com.placement.platform.support.Benchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Leaderboard queries over 500k synthetic users with solved counts 0-300,
+ * against the full sort a per-request GROUP BY amounts to.
+ */
+@Tag("benchmark")
+class RankIndexBenchmark {
+
+    private static final int USERS = 500_000;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(3);
+
+    @Test
+    void leaderboardQueries() {
+        Random random = new Random(1);
+        UUID[] users = new UUID[USERS];
+        Map<UUID, Integer> scores = new HashMap<>();
+        for (int i = 0; i < USERS; i++) {
+            users[i] = UUID.randomUUID();
+            scores.put(users[i], random.nextInt(301));
+        }
+
+        long start = System.nanoTime();
+        RankIndex index = new RankIndex(scores);
+        System.out.printf("bulk load of %,d users: %d ms%n", USERS, (System.nanoTime() - start) / 1_000_000);
+
+        Benchmark.run("rankOf", WARMUP, MEASURE, () -> index.rankOf(anyUser(users)));
+        Benchmark.run("top 10", WARMUP, MEASURE, () -> index.range(0, 10));
+        Benchmark.run("around, window 5", WARMUP, MEASURE, () -> index.around(anyUser(users), 5));
+        Benchmark.run("adjust +-1", WARMUP, MEASURE, () -> {
+            index.adjust(anyUser(users), ThreadLocalRandom.current().nextBoolean() ? 1 : -1);
+            return null;
+        });
+
+        List<Map.Entry<UUID, Integer>> entries = List.copyOf(scores.entrySet());
+        Benchmark.run("baseline: sort everyone, take top 10", Duration.ofSeconds(1), MEASURE, () -> entries.stream()
+                .sorted(Map.Entry.<UUID, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(10)
+                .toList());
+    }
+
+    private static UUID anyUser(UUID[] users) {
+        return users[ThreadLocalRandom.current().nextInt(users.length)];
+    }
+}
@@ -0,0 +1,143 @@
+package com.placement.platform.util;
+
+import com.placement.platform.util.RankIndex.Ranked;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankIndexTest {
+
+    @Test
+    void tiesShareCompetitionRanks() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+        RankIndex index = new RankIndex(Map.of(a, 5, b, 3, c, 3, d, 1));
+
+        assertThat(index.rankOf(a).rank()).isEqualTo(1);
+        assertThat(index.rankOf(b).rank()).isEqualTo(2);
+        assertThat(index.rankOf(c).rank()).isEqualTo(2);
+        assertThat(index.rankOf(d).rank()).isEqualTo(4);
+        assertThat(index.range(0, 10)).extracting(Ranked::rank).containsExactly(1L, 2L, 2L, 4L);
+    }
+
+    @Test
+    void unrankedUsersRankLast() {
+        UUID ranked = UUID.randomUUID();
+        UUID dropped = UUID.randomUUID();
+        RankIndex index = new RankIndex();
+        index.adjust(ranked, 2);
+        index.adjust(dropped, 1);
+        index.adjust(dropped, -1);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.rankOf(dropped)).isEqualTo(new Ranked(dropped, 0, 2));
+        assertThat(index.around(dropped, 1)).extracting(Ranked::userId).containsExactly(ranked);
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomUpdates() {
+        Random random = new Random(42);
+        List<UUID> users = new ArrayList<>();
+        Map<UUID, Integer> initial = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            UUID userId = UUID.randomUUID();
+            users.add(userId);
+            initial.put(userId, random.nextInt(10));
+        }
+        RankIndex index = new RankIndex(initial);
+        Map<UUID, Integer> expected = new HashMap<>(initial);
+
+        for (int step = 0; step < 20_000; step++) {
+            UUID userId = users.get(random.nextInt(users.size()));
+            if (random.nextInt(10) == 0) {
+                // Now and then jump past the current capacity to force a resize
+                int score = random.nextInt(100);
+                index.set(userId, score);
+                expected.put(userId, score);
+            } else {
+                int delta = random.nextBoolean() ? 1 : -1;
+                index.adjust(userId, delta);
+                expected.put(userId, Math.max(0, expected.get(userId) + delta));
+            }
+            if (step % 1000 == 0) {
+                assertMatches(index, expected, random);
+            }
+        }
+        assertMatches(index, expected, random);
+    }
+
+    @Test
+    void optimisticReadsStayConsistentWhileWriting() throws Exception {
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(UUID.randomUUID());
+        }
+        RankIndex index = new RankIndex();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            Random random = new Random(7);
+            for (int i = 0; i < 200_000; i++) {
+                index.adjust(users.get(random.nextInt(users.size())), random.nextInt(3) - 1);
+            }
+        });
+        Thread reader = new Thread(() -> {
+            try {
+                while (writer.isAlive()) {
+                    List<Ranked> page = index.range(0, 50);
+                    assertThat(page).isSortedAccordingTo(Comparator.comparingInt(Ranked::score).reversed());
+                    index.around(users.get(0), 5);
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        writer.start();
+        reader.start();
+        writer.join();
+        reader.join();
+
+        assertThat(failure.get()).isNull();
+    }
+
+    private static void assertMatches(RankIndex index, Map<UUID, Integer> expected, Random random) {
+        List<Map.Entry<UUID, Integer>> ranked = expected.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<UUID, Integer>comparingByValue().reversed())
+                .toList();
+        assertThat(index.size()).isEqualTo(ranked.size());
+
+        expected.forEach((userId, score) -> {
+            long higher = ranked.stream().filter(entry -> entry.getValue() > score).count();
+            Ranked actual = index.rankOf(userId);
+            assertThat(actual.score()).isEqualTo(score);
+            assertThat(actual.rank()).isEqualTo(score > 0 ? higher + 1 : ranked.size() + 1);
+        });
+
+        List<Ranked> all = index.range(0, ranked.size() + 10);
+        assertThat(all).extracting(Ranked::score)
+                .containsExactlyElementsOf(ranked.stream().map(Map.Entry::getValue).toList());
+        assertThat(all).extracting(Ranked::userId).doesNotHaveDuplicates();
+
+        int offset = random.nextInt(Math.max(1, ranked.size()));
+        assertThat(index.range(offset, 7)).isEqualTo(all.subList(offset, Math.min(all.size(), offset + 7)));
+
+        if (!ranked.isEmpty()) {
+            UUID userId = ranked.get(random.nextInt(ranked.size())).getKey();
+            List<Ranked> around = index.around(userId, 3);
+            assertThat(around).extracting(Ranked::userId).contains(userId);
+            int position = all.stream().map(Ranked::userId).toList().indexOf(userId);
+            assertThat(around).isEqualTo(all.subList(Math.max(0, position - 3), Math.min(all.size(), position + 4)));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.placement.platform.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoaringBitmapTest {
+
+    @Test
+    void arrayChunkBecomesABitmapPastTheLimitAndBackBelowHalf() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value = 0; value < 4096; value++) {
+            bitmap.add(value * 2);
+        }
+        assertThat(firstChunk(bitmap)).isInstanceOf(char[].class);
+
+        bitmap.add(1);
+        assertThat(firstChunk(bitmap)).isInstanceOf(long[].class);
+        assertThat(bitmap.cardinality()).isEqualTo(4097);
+
+        for (int value = 0; value < 2049; value++) {
+            bitmap.remove(value * 2);
+        }
+        assertThat(firstChunk(bitmap)).isInstanceOf(char[].class);
+        assertThat(bitmap.cardinality()).isEqualTo(2048);
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(4098)).isTrue();
+        assertThat(bitmap.contains(4096)).isFalse();
+    }
+
+    @Test
+    void emptiedChunkIsDropped() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.add(5);
+        bitmap.add(70_000);
+        bitmap.remove(5);
+        bitmap.remove(5);
+
+        assertThat(ReflectionTestUtils.getField(bitmap, "chunkCount")).isEqualTo(1);
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+        bitmap.remove(70_000);
+        assertThat(bitmap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void setOperationsMatchBitSetAcrossChunkKinds() {
+        Random random = new Random(11);
+        // Sparse, dense and mixed chunks across a few high keys
+        int[] densities = { 10, 3000, 5000, 60_000 };
+        for (int round = 0; round < 20; round++) {
+            BitSet expectedA = new BitSet();
+            BitSet expectedB = new BitSet();
+            RoaringBitmap a = randomBitmap(random, densities, expectedA);
+            RoaringBitmap b = randomBitmap(random, densities, expectedB);
+
+            assertMatches(a, expectedA);
+            BitSet and = (BitSet) expectedA.clone();
+            and.and(expectedB);
+            assertMatches(RoaringBitmap.and(a, b), and);
+            assertThat(RoaringBitmap.andCardinality(a, b)).isEqualTo(and.cardinality());
+
+            BitSet or = (BitSet) expectedA.clone();
+            or.or(expectedB);
+            RoaringBitmap union = a.copy();
+            union.or(b);
+            assertMatches(union, or);
+            assertMatches(a, expectedA);
+        }
+    }
+
+    private static RoaringBitmap randomBitmap(Random random, int[] densities, BitSet expected) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int high = 0; high < 4; high++) {
+            if (random.nextInt(4) == 0) {
+                continue;
+            }
+            int count = densities[random.nextInt(densities.length)];
+            for (int i = 0; i < count; i++) {
+                int value = (high << 16) | random.nextInt(1 << 16);
+                bitmap.add(value);
+                expected.set(value);
+            }
+        }
+        return bitmap;
+    }
+
+    private static void assertMatches(RoaringBitmap bitmap, BitSet expected) {
+        assertThat(bitmap.cardinality()).isEqualTo(expected.cardinality());
+        BitSet actual = new BitSet();
+        bitmap.forEach(actual::set);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static Object firstChunk(RoaringBitmap bitmap) {
+        return ((Object[]) ReflectionTestUtils.getField(bitmap, "chunks"))[0];
+    }
+}
@@ -0,0 +1,102 @@
+package com.placement.platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    void entriesCascadeDownAndFireOnTheirTick() {
+        TimingWheel<String, Integer> wheel = new TimingWheel<>(TICK, 0);
+        // One entry per level: within 64 ticks, 64^2, 64^3 and 64^4
+        long[] dueTicks = { 5, 70, 64 * 64 * 3 + 17, 64L * 64 * 64 * 2 + 64 * 5 + 1 };
+        for (int i = 0; i < dueTicks.length; i++) {
+            wheel.schedule("level " + i, i, dueTicks[i] * TICK);
+        }
+
+        Map<String, Long> firedAt = new HashMap<>();
+        for (long tick = 1; tick <= dueTicks[dueTicks.length - 1]; tick++) {
+            long now = tick;
+            wheel.advance(tick * TICK, (key, value, dueMillis) -> firedAt.put(key, now));
+        }
+
+        assertThat(wheel.size()).isZero();
+        for (int i = 0; i < dueTicks.length; i++) {
+            assertThat(firedAt).containsEntry("level " + i, dueTicks[i]);
+        }
+    }
+
+    @Test
+    void cancelledAndReplacedEntriesDoNotFireTwice() {
+        TimingWheel<String, Integer> wheel = new TimingWheel<>(TICK, 0);
+        wheel.schedule("cancelled", 1, 100 * TICK);
+        wheel.schedule("moved", 1, 5000 * TICK);
+        wheel.schedule("moved", 2, 10 * TICK);
+
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.cancel("cancelled")).isFalse();
+        assertThat(wheel.get("moved")).isEqualTo(2);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(10_000 * TICK, (key, value, dueMillis) -> fired.add(key + "=" + value));
+        assertThat(fired).containsExactly("moved=2");
+    }
+
+    @Test
+    void pastDueEntriesFireOnTheNextAdvance() {
+        TimingWheel<String, Integer> wheel = new TimingWheel<>(TICK, 50 * TICK);
+        wheel.schedule("late", 0, 3 * TICK);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(50 * TICK, (key, value, dueMillis) -> fired.add(key));
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomSchedules() {
+        Random random = new Random(5);
+        TimingWheel<Integer, Integer> wheel = new TimingWheel<>(TICK, 0);
+        Map<Integer, Long> pending = new HashMap<>();
+        long now = 0;
+        for (int round = 0; round < 300; round++) {
+            for (int i = 0; i < 20; i++) {
+                int key = random.nextInt(500);
+                if (random.nextInt(5) == 0) {
+                    assertThat(wheel.cancel(key)).isEqualTo(pending.remove(key) != null);
+                } else {
+                    long due = now + random.nextInt(64 * 64 * 64) * TICK / (1 + random.nextInt(64));
+                    wheel.schedule(key, round, due);
+                    pending.put(key, due);
+                }
+            }
+            now += random.nextInt(64 * 64) * TICK;
+
+            long limit = now;
+            Set<Integer> expected = new HashSet<>();
+            pending.forEach((key, due) -> {
+                if (due <= limit) {
+                    expected.add(key);
+                }
+            });
+            Set<Integer> fired = new HashSet<>();
+            wheel.advance(now, (key, value, dueMillis) -> {
+                assertThat(dueMillis).isLessThanOrEqualTo(limit);
+                fired.add(key);
+            });
+            assertThat(fired).isEqualTo(expected);
+            expected.forEach(pending::remove);
+            assertThat(wheel.size()).isEqualTo(pending.size());
+        }
+    }
+}
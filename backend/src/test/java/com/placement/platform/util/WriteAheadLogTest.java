@@ -0,0 +1,136 @@
+package com.placement.platform.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordsOfEarlierRunsInOrder() throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            log.append(bytes("a"));
+            log.rotate();
+            log.append(bytes("b"));
+            log.awaitDurable(log.append(bytes("c")));
+        }
+
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            assertThat(replayed(log)).containsExactly("a", "b", "c");
+        }
+    }
+
+    @Test
+    void ignoresTornTail() throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            log.append(bytes("first"));
+            log.append(bytes("second"));
+        }
+        Path segment = onlySegment();
+        byte[] data = Files.readAllBytes(segment);
+        // A third record whose payload never fully reached the disk
+        Files.write(segment, new byte[] { 0, 0, 0, 42, 1, 2, 3, 4, 'x' }, StandardOpenOption.APPEND);
+
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            assertThat(replayed(log)).containsExactly("first", "second");
+        }
+
+        Files.write(segment, Arrays.copyOf(data, data.length - 3));
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            assertThat(replayed(log)).containsExactly("first");
+        }
+    }
+
+    @Test
+    void stopsAtCorruptedRecord() throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            log.append(bytes("good"));
+            log.append(bytes("flipped"));
+            log.append(bytes("after"));
+        }
+        Path segment = onlySegment();
+        byte[] data = Files.readAllBytes(segment);
+        // Flip a payload byte of the second record
+        data[8 + "good".length() + 8] ^= 0x01;
+        Files.write(segment, data);
+
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            assertThat(replayed(log)).containsExactly("good");
+        }
+    }
+
+    @Test
+    void deletesOnlySealedSegmentsBeforeTheGivenOne() throws IOException {
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            log.append(bytes("flushed"));
+            long firstUnflushed = log.rotate();
+            log.append(bytes("pending"));
+            log.deleteSegmentsBefore(firstUnflushed);
+        }
+
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            assertThat(replayed(log)).containsExactly("pending");
+        }
+    }
+
+    @Test
+    void awaitDurableCoversConcurrentAppends() throws Exception {
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int writer = t;
+                writers.add(new Thread(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        log.awaitDurable(log.append(bytes(writer + ":" + i)));
+                    }
+                }));
+            }
+            writers.forEach(Thread::start);
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        try (WriteAheadLog log = new WriteAheadLog(directory)) {
+            List<String> records = replayed(log);
+            assertThat(records).hasSize(1000).doesNotHaveDuplicates();
+            for (int t = 0; t < 4; t++) {
+                String prefix = t + ":";
+                assertThat(records.stream().filter(record -> record.startsWith(prefix))
+                        .map(record -> Integer.parseInt(record.substring(prefix.length()))).toList()).isSorted();
+            }
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.sorted().toList();
+            assertThat(segments).hasSize(1);
+            return segments.get(0);
+        }
+    }
+
+    private static List<String> replayed(WriteAheadLog log) {
+        List<String> records = new ArrayList<>();
+        log.replay(payload -> records.add(new String(payload, StandardCharsets.UTF_8)));
+        return records;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
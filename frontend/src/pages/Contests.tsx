@@ -8,10 +8,27 @@ interface Contest {
     platform: string;
     link: string;
     startTime: string;
+    endTime: string;
     duration: string;
-    status: 'UPCOMING' | 'ONGOING' | 'COMPLETED';
+    durationMinutes: number;
+    status: 'UPCOMING' | 'ONGOING' | 'ENDED';
 }
 
+// A "reminder" or "started" frame carries the contest as it stands now
+const noticeOf = (frame: string): Contest | null => {
+    if (!/^event:(reminder|started)$/m.test(frame)) return null;
+    const data = frame
+        .split('\n')
+        .filter(line => line.startsWith('data:'))
+        .map(line => line.slice(5).replace(/^ /, ''))
+        .join('\n');
+    return data ? JSON.parse(data) : null;
+};
+
+const withContest = (contests: Contest[], contest: Contest) =>
+    [...contests.filter(c => c.id !== contest.id), contest]
+        .sort((a, b) => new Date(a.startTime).getTime() - new Date(b.startTime).getTime());
+
 interface AiRecommendation {
     name: string;
     platform: string;
@@ -31,6 +48,51 @@ const Contests = () => {
         fetchContests();
     }, []);
 
+    // EventSource cannot send the Authorization header, so the stream is read with fetch
+    useEffect(() => {
+        const controller = new AbortController();
+        let retry: ReturnType<typeof setTimeout>;
+        let reconnecting = false;
+
+        const listen = async () => {
+            try {
+                const token = localStorage.getItem('token');
+                const res = await fetch('http://localhost:8080/api/v1/contests/stream', {
+                    headers: { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' },
+                    signal: controller.signal
+                });
+                if (!res.ok || !res.body) throw new Error(`Contest stream failed: ${res.status}`);
+                // Notices sent while disconnected are gone; catch up once
+                if (reconnecting) fetchContests();
+                const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+                let buffer = '';
+                for (;;) {
+                    const { value, done } = await reader.read();
+                    if (done) break;
+                    buffer += value;
+                    const frames = buffer.split('\n\n');
+                    buffer = frames.pop() ?? '';
+                    const notices = frames.map(noticeOf).filter((contest): contest is Contest => contest !== null);
+                    if (notices.length > 0) {
+                        setContests(current => notices.reduce(withContest, current));
+                    }
+                }
+            } catch (err) {
+                if (controller.signal.aborted) return;
+                console.error(err);
+            }
+            // The server ends idle streams after a while; pick up again shortly
+            reconnecting = true;
+            retry = setTimeout(listen, 5000);
+        };
+
+        listen();
+        return () => {
+            controller.abort();
+            clearTimeout(retry);
+        };
+    }, []);
+
     const fetchContests = async () => {
         try {
             const token = localStorage.getItem('token');
@@ -11,47 +11,104 @@ interface Question {
 }
 
 interface UserProgress {
-    question: {
-        id: string;
-    };
+    questionId: string;
     status: 'COMPLETED' | 'PENDING';
 }
 
+const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080';
+const PAGE_SIZE = 50;
+
+interface QuestionPage {
+    items: Question[];
+    nextCursor: string | null;
+    hasNext: boolean;
+    total: number;
+}
+
 const DsaTracker = () => {
     const [questions, setQuestions] = useState<Question[]>([]);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [matchCount, setMatchCount] = useState(0);
+    const [totalCount, setTotalCount] = useState(0);
     const [solvedIds, setSolvedIds] = useState<Set<string>>(new Set());
     const [loading, setLoading] = useState(true);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [filterDifficulty, setFilterDifficulty] = useState<'ALL' | 'EASY' | 'MEDIUM' | 'HARD'>('ALL');
     const [searchQuery, setSearchQuery] = useState('');
+    const [debouncedSearch, setDebouncedSearch] = useState('');
+
+    const authHeaders = () => ({ Authorization: `Bearer ${localStorage.getItem('token')}` });
 
     useEffect(() => {
-        fetchData();
+        fetchProgress();
     }, []);
 
-    const fetchData = async () => {
-        try {
-            const token = localStorage.getItem('token');
-            const headers = { Authorization: `Bearer ${token}` };
+    useEffect(() => {
+        const timer = setTimeout(() => setDebouncedSearch(searchQuery.trim()), 300);
+        return () => clearTimeout(timer);
+    }, [searchQuery]);
 
-            const [questionsRes, progressRes] = await Promise.all([
-                axios.get(`${import.meta.env.VITE_API_URL || 'http://localhost:8080'}/api/v1/dsa/questions`, { headers }),
-                axios.get(`${import.meta.env.VITE_API_URL || 'http://localhost:8080'}/api/v1/dsa/progress`, { headers })
-            ]);
+    // Filters are applied by the server; a filter change starts again from the first page
+    useEffect(() => {
+        let cancelled = false;
+        fetchPage(null)
+            .then(page => {
+                if (cancelled) return;
+                setQuestions(page.items);
+                setNextCursor(page.nextCursor);
+                setMatchCount(page.total);
+                if (filterDifficulty === 'ALL' && !debouncedSearch) {
+                    setTotalCount(page.total);
+                }
+            })
+            .catch(err => console.error(err))
+            .finally(() => {
+                if (!cancelled) setLoading(false);
+            });
+        return () => {
+            cancelled = true;
+        };
+    }, [filterDifficulty, debouncedSearch]);
 
-            setQuestions(questionsRes.data);
+    const fetchPage = async (cursor: string | null): Promise<QuestionPage> => {
+        const res = await axios.get<QuestionPage>(`${API_URL}/api/v1/dsa/questions`, {
+            headers: authHeaders(),
+            params: {
+                size: PAGE_SIZE,
+                ...(filterDifficulty !== 'ALL' ? { difficulty: filterDifficulty } : {}),
+                ...(debouncedSearch ? { search: debouncedSearch } : {}),
+                ...(cursor ? { cursor } : {})
+            }
+        });
+        return res.data;
+    };
 
+    const loadMore = async () => {
+        if (!nextCursor) return;
+        setLoadingMore(true);
+        try {
+            const page = await fetchPage(nextCursor);
+            setQuestions(prev => [...prev, ...page.items]);
+            setNextCursor(page.nextCursor);
+        } catch (err) {
+            console.error(err);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
+    const fetchProgress = async () => {
+        try {
+            const progressRes = await axios.get(`${API_URL}/api/v1/dsa/progress`, { headers: authHeaders() });
             const solved = new Set<string>();
             progressRes.data.forEach((p: UserProgress) => {
                 if (p.status === 'COMPLETED') {
-                    solved.add(p.question.id);
+                    solved.add(p.questionId);
                 }
             });
             setSolvedIds(solved);
-
         } catch (err) {
             console.error(err);
-        } finally {
-            setLoading(false);
         }
     };
 
@@ -68,10 +125,9 @@ const DsaTracker = () => {
         setSolvedIds(newSolvedIds);
 
         try {
-            const token = localStorage.getItem('token');
-            await axios.post(`${import.meta.env.VITE_API_URL || 'http://localhost:8080'}/api/v1/dsa/progress`,
+            await axios.post(`${API_URL}/api/v1/dsa/progress`,
                 { questionId, status: newStatus },
-                { headers: { Authorization: `Bearer ${token}` } }
+                { headers: authHeaders() }
             );
         } catch (err) {
             console.error(err);
@@ -79,14 +135,7 @@ const DsaTracker = () => {
         }
     };
 
-    const filteredQuestions = questions.filter(q => {
-        const matchesDifficulty = filterDifficulty === 'ALL' || q.difficulty === filterDifficulty;
-        const matchesSearch = q.title.toLowerCase().includes(searchQuery.toLowerCase()) || q.topic.toLowerCase().includes(searchQuery.toLowerCase());
-        return matchesDifficulty && matchesSearch;
-    });
-
     const solvedCount = solvedIds.size;
-    const totalCount = questions.length;
     const progressPercentage = totalCount > 0 ? (solvedCount / totalCount) * 100 : 0;
 
     if (loading) return <div className="flex justify-center p-12"><Loader2 className="animate-spin text-orange-500" size={32} /></div>;
@@ -154,7 +203,7 @@ const DsaTracker = () => {
                         </tr>
                     </thead>
                     <tbody className="bg-white divide-y divide-gray-200">
-                        {filteredQuestions.map((q, idx) => (
+                        {questions.map((q, idx) => (
                             <tr key={q.id} className={`hover:bg-gray-50 transition-colors ${idx % 2 === 0 ? 'bg-white' : 'bg-gray-50/30'}`}>
                                 <td className="px-6 py-4 whitespace-nowrap">
                                     <button
@@ -201,7 +250,18 @@ const DsaTracker = () => {
                         ))}
                     </tbody>
                 </table>
-                {filteredQuestions.length === 0 && (
+                {nextCursor && (
+                    <div className="p-4 text-center border-t border-gray-200">
+                        <button
+                            onClick={loadMore}
+                            disabled={loadingMore}
+                            className="px-4 py-2 rounded-lg text-sm font-medium bg-white text-gray-700 border border-gray-200 hover:bg-gray-100 disabled:opacity-50"
+                        >
+                            {loadingMore ? 'Loading...' : `Load more (${questions.length} of ${matchCount})`}
+                        </button>
+                    </div>
+                )}
+                {questions.length === 0 && (
                     <div className="p-12 text-center text-gray-500">
                         <Filter className="mx-auto h-12 w-12 text-gray-300 mb-3" />
                         No questions found matching your filters.
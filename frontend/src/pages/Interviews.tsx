@@ -21,6 +21,7 @@ const Interviews = () => {
     const [companies, setCompanies] = useState<Company[]>([]);
     const [selectedCompany, setSelectedCompany] = useState<Company | null>(null);
     const [questions, setQuestions] = useState<InterviewQuestion[]>([]);
+    const [hasMore, setHasMore] = useState(false);
     const [loading, setLoading] = useState(true);
 
     useEffect(() => {
@@ -46,15 +47,34 @@ const Interviews = () => {
         }
     };
 
+    const fetchQuestions = async (company: Company, offset: number) => {
+        const token = localStorage.getItem('token');
+        const res = await axios.get(`${import.meta.env.VITE_API_URL || 'http://localhost:8080'}/api/v1/companies/${company.id}`, {
+            headers: { Authorization: `Bearer ${token}` },
+            params: { offset }
+        });
+        setHasMore(res.data.hasNext);
+        return res.data.questions as InterviewQuestion[];
+    };
+
     const handleCompanySelect = async (company: Company) => {
         setSelectedCompany(company);
         setLoading(true);
         try {
-            const token = localStorage.getItem('token');
-            const res = await axios.get(`${import.meta.env.VITE_API_URL || 'http://localhost:8080'}/api/v1/companies/${company.id}/questions`, {
-                headers: { Authorization: `Bearer ${token}` }
-            });
-            setQuestions(res.data);
+            setQuestions(await fetchQuestions(company, 0));
+        } catch (err) {
+            console.error(err);
+        } finally {
+            setLoading(false);
+        }
+    };
+
+    const handleLoadMore = async () => {
+        if (!selectedCompany) return;
+        setLoading(true);
+        try {
+            const more = await fetchQuestions(selectedCompany, questions.length);
+            setQuestions((current) => [...current, ...more]);
         } catch (err) {
             console.error(err);
         } finally {
@@ -137,6 +157,15 @@ const Interviews = () => {
                                         </div>
                                     </div>
                                 ))}
+                                {hasMore && (
+                                    <button
+                                        onClick={handleLoadMore}
+                                        disabled={loading}
+                                        className="w-full py-2 text-sm text-indigo-600 hover:bg-indigo-50 rounded-lg"
+                                    >
+                                        Load more
+                                    </button>
+                                )}
                                 {questions.length === 0 && !loading && (
                                     <div className="text-center py-12 text-gray-500">
                                         No questions found for this company yet.